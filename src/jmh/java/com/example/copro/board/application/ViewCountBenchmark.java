@@ -0,0 +1,92 @@
+package com.example.copro.board.application;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 한 게시물을 500명이 동시에 조회할 때의 처리량.
+ * buffered: ViewCountBuffer에 더하기만 한다 (반영은 3초마다 batch update).
+ * rowUpdate: 기존 방식처럼 조회마다 "count = count + 1" 트랜잭션을 커밋한다. MariaDB 모드 H2 메모리 DB라 네트워크 비용은 없다.
+ *
+ * ./gradlew jmh -PjmhIncludes=ViewCountBenchmark
+ */
+@Threads(500)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ViewCountBenchmark {
+    private static final long BOARD_ID = 1L;
+    private static final String URL = "jdbc:h2:mem:views;MODE=MariaDB;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=60000";
+
+    @State(Scope.Benchmark)
+    public static class Buffer {
+        private final ViewCountBuffer buffer = new ViewCountBuffer(null, null, null);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Database {
+        private Connection connection;
+
+        @Setup(Level.Trial)
+        public void setUp() throws SQLException {
+            connection = DriverManager.getConnection(URL);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table if not exists board (board_id bigint primary key, count int default 0)");
+                statement.execute("merge into board (board_id, count) key (board_id) values (" + BOARD_ID + ", 0)");
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("drop table board");
+            }
+            connection.close();
+        }
+    }
+
+    // 조회 요청마다 커넥션 하나를 쓰는 것처럼 스레드마다 커넥션을 둔다
+    @State(Scope.Thread)
+    public static class Viewer {
+        private Connection connection;
+        private PreparedStatement update;
+
+        @Setup(Level.Trial)
+        public void setUp(Database database) throws SQLException {
+            connection = DriverManager.getConnection(URL);
+            connection.setAutoCommit(false);
+            update = connection.prepareStatement("update board set count = count + 1 where board_id = ?");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public void buffered(Buffer state) {
+        state.buffer.increase(BOARD_ID);
+    }
+
+    @Benchmark
+    public int rowUpdate(Viewer viewer) throws SQLException {
+        viewer.update.setLong(1, BOARD_ID);
+        int updated = viewer.update.executeUpdate();
+        viewer.connection.commit();
+        return updated;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.copro.board.application.search;
+
+import com.example.copro.board.domain.Tag;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 게시물 검색: 메모리 역색인(BM25) vs 기존 LIKE 쿼리(페이지 + count).
+ * LIKE 쪽은 MariaDB 모드 H2 메모리 DB에서 실행하므로 네트워크 비용이 없는 하한값이다.
+ *
+ * ./gradlew jmh -PjmhIncludes=BoardSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BoardSearchBenchmark {
+    private static final int PAGE_SIZE = 10;
+    private static final String[] WORDS = {
+            "스프링", "리액트", "백엔드", "프론트엔드", "개발자", "디자이너", "모집", "스터디", "프로젝트", "포트폴리오",
+            "자바", "코틀린", "파이썬", "데이터", "머신러닝", "서버", "클라우드", "안드로이드", "아이폰", "게임",
+            "팀원", "구합니다", "함께", "주말", "온라인", "오프라인", "서울", "부산", "초보", "경력",
+            "java", "spring", "react", "node", "docker", "kotlin", "flutter", "aws", "api", "figma"
+    };
+
+    @Param({"1000000"})
+    private int boardCount;
+
+    @Param({"스프링", "머신러닝", "fig"})
+    private String query;
+
+    private BoardSearchIndex index;
+    private Connection connection;
+    private PreparedStatement likePage;
+    private PreparedStatement likeCount;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        index = new BoardSearchIndex();
+        connection = DriverManager.getConnection("jdbc:h2:mem:search;MODE=MariaDB;DATABASE_TO_LOWER=TRUE");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table board_summary (board_id bigint primary key, title varchar(255) not null, "
+                    + "create_at timestamp(6))");
+            statement.execute("create index idx_board_summary_create_at on board_summary (create_at, board_id)");
+        }
+
+        Random random = new Random(42);
+        long createAt = System.currentTimeMillis() - boardCount * 1_000L;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into board_summary (board_id, title, create_at) values (?, ?, ?)")) {
+            for (long boardId = 1; boardId <= boardCount; boardId++) {
+                String title = sentence(random, 2 + random.nextInt(3));
+                String contents = sentence(random, 8 + random.nextInt(8));
+                index.add(boardId, title, contents, sentence(random, 1), Tag.values()[random.nextInt(Tag.values().length)]);
+
+                insert.setLong(1, boardId);
+                insert.setString(2, title);
+                insert.setTimestamp(3, new Timestamp(createAt + boardId * 1_000L));
+                insert.addBatch();
+                if (boardId % 10_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        // BoardCustomRepositoryImpl.findByTitleContaining과 같은 두 문장
+        likePage = connection.prepareStatement("select board_id, title from board_summary where title like ? "
+                + "order by create_at desc, board_id desc limit ? offset 0");
+        likeCount = connection.prepareStatement("select count(*) from board_summary where title like ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public BoardSearchResult index() {
+        return index.search(query, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public BoardSearchResult like() throws SQLException {
+        String pattern = "%" + query + "%";
+        List<Long> boardIds = new ArrayList<>(PAGE_SIZE);
+
+        likePage.setString(1, pattern);
+        likePage.setInt(2, PAGE_SIZE);
+        try (ResultSet resultSet = likePage.executeQuery()) {
+            while (resultSet.next()) {
+                boardIds.add(resultSet.getLong(1));
+            }
+        }
+
+        likeCount.setString(1, pattern);
+        try (ResultSet resultSet = likeCount.executeQuery()) {
+            resultSet.next();
+            return new BoardSearchResult(boardIds, resultSet.getLong(1));
+        }
+    }
+
+    private static String sentence(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.copro.global.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 제목 초성, 자모 검색 지연 시간. 목표는 제목 1M개에서 p99 5ms 이하 (결과의 p0.99 값).
+ *
+ * ./gradlew jmh -PjmhIncludes=HangulSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HangulSearchBenchmark {
+    private static final int PAGE_SIZE = 10;
+    private static final String[] WORDS = {
+            "스프링", "리액트", "백엔드", "프론트엔드", "개발자", "디자이너", "모집", "스터디", "프로젝트", "포트폴리오",
+            "자바", "코틀린", "파이썬", "데이터", "머신러닝", "서버", "클라우드", "안드로이드", "아이폰", "게임",
+            "팀원", "구합니다", "함께", "주말", "온라인", "오프라인", "서울", "부산", "초보", "경력",
+            "java", "spring", "react", "node", "docker", "kotlin", "flutter", "aws", "api", "figma"
+    };
+
+    @Param({"1000000"})
+    private int titleCount;
+
+    // 초성, 입력 중인 글자, 완성된 단어, 한 글자(전체 탐색 경로)
+    @Param({"ㅍㄹㅈㅌ", "ㅁㅅㄹㄴ", "프로ㅈ", "머신러닝", "ㅍ", "프"})
+    private String query;
+
+    private HangulSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new HangulSearchIndex();
+        Random random = new Random(42);
+        for (long id = 1; id <= titleCount; id++) {
+            StringBuilder title = new StringBuilder();
+            int length = 2 + random.nextInt(3);
+            for (int i = 0; i < length; i++) {
+                title.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            index.put(id, title.toString());
+        }
+    }
+
+    @Benchmark
+    public HangulSearchIndex.Result search() {
+        return index.search(query, 0, PAGE_SIZE);
+    }
+}
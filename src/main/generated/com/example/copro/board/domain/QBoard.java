@@ -35,6 +35,8 @@ public class QBoard extends EntityPathBase<Board> {
     //inherited
     public final DateTimePath<java.time.LocalDateTime> createAt = _super.createAt;
 
+    public final BooleanPath deleted = createBoolean("deleted");
+
     public final NumberPath<Integer> heart = createNumber("heart", Integer.class);
 
     public final ListPath<com.example.copro.image.domain.Image, com.example.copro.image.domain.QImage> images = this.<com.example.copro.image.domain.Image, com.example.copro.image.domain.QImage>createList("images", com.example.copro.image.domain.Image.class, com.example.copro.image.domain.QImage.class, PathInits.DIRECT2);
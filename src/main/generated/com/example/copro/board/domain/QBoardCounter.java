@@ -0,0 +1,39 @@
+package com.example.copro.board.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QBoardCounter is a Querydsl query type for BoardCounter
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QBoardCounter extends EntityPathBase<BoardCounter> {
+
+    private static final long serialVersionUID = -274578086L;
+
+    public static final QBoardCounter boardCounter = new QBoardCounter("boardCounter");
+
+    public final StringPath counterKey = createString("counterKey");
+
+    public final NumberPath<Long> total = createNumber("total", Long.class);
+
+    public QBoardCounter(String variable) {
+        super(BoardCounter.class, forVariable(variable));
+    }
+
+    public QBoardCounter(Path<? extends BoardCounter> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QBoardCounter(PathMetadata metadata) {
+        super(BoardCounter.class, metadata);
+    }
+
+}
+
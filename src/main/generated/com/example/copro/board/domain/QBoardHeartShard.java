@@ -0,0 +1,43 @@
+package com.example.copro.board.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QBoardHeartShard is a Querydsl query type for BoardHeartShard
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QBoardHeartShard extends EntityPathBase<BoardHeartShard> {
+
+    private static final long serialVersionUID = 610801434L;
+
+    public static final QBoardHeartShard boardHeartShard = new QBoardHeartShard("boardHeartShard");
+
+    public final NumberPath<Long> boardId = createNumber("boardId", Long.class);
+
+    public final NumberPath<Long> delta = createNumber("delta", Long.class);
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final NumberPath<Integer> slot = createNumber("slot", Integer.class);
+
+    public QBoardHeartShard(String variable) {
+        super(BoardHeartShard.class, forVariable(variable));
+    }
+
+    public QBoardHeartShard(Path<? extends BoardHeartShard> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QBoardHeartShard(PathMetadata metadata) {
+        super(BoardHeartShard.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,57 @@
+package com.example.copro.board.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QBoardSummary is a Querydsl query type for BoardSummary
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QBoardSummary extends EntityPathBase<BoardSummary> {
+
+    private static final long serialVersionUID = 1204918020L;
+
+    public static final QBoardSummary boardSummary = new QBoardSummary("boardSummary");
+
+    public final NumberPath<Long> boardId = createNumber("boardId", Long.class);
+
+    public final EnumPath<Category> category = createEnum("category", Category.class);
+
+    public final NumberPath<Integer> commentCount = createNumber("commentCount", Integer.class);
+
+    public final NumberPath<Long> commentVersion = createNumber("commentVersion", Long.class);
+
+    public final NumberPath<Integer> count = createNumber("count", Integer.class);
+
+    public final DateTimePath<java.time.LocalDateTime> createAt = createDateTime("createAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Integer> heart = createNumber("heart", Integer.class);
+
+    public final StringPath imageUrl = createString("imageUrl");
+
+    public final NumberPath<Long> memberId = createNumber("memberId", Long.class);
+
+    public final StringPath nickName = createString("nickName");
+
+    public final StringPath title = createString("title");
+
+    public QBoardSummary(String variable) {
+        super(BoardSummary.class, forVariable(variable));
+    }
+
+    public QBoardSummary(Path<? extends BoardSummary> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QBoardSummary(PathMetadata metadata) {
+        super(BoardSummary.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,41 @@
+package com.example.copro.board.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QBoardViewerSketch is a Querydsl query type for BoardViewerSketch
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QBoardViewerSketch extends EntityPathBase<BoardViewerSketch> {
+
+    private static final long serialVersionUID = 1323667392L;
+
+    public static final QBoardViewerSketch boardViewerSketch = new QBoardViewerSketch("boardViewerSketch");
+
+    public final NumberPath<Long> boardId = createNumber("boardId", Long.class);
+
+    public final ArrayPath<byte[], Byte> registers = createArray("registers", byte[].class);
+
+    public final NumberPath<Long> viewerCount = createNumber("viewerCount", Long.class);
+
+    public QBoardViewerSketch(String variable) {
+        super(BoardViewerSketch.class, forVariable(variable));
+    }
+
+    public QBoardViewerSketch(Path<? extends BoardViewerSketch> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QBoardViewerSketch(PathMetadata metadata) {
+        super(BoardViewerSketch.class, metadata);
+    }
+
+}
+
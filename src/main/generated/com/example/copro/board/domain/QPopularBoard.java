@@ -0,0 +1,41 @@
+package com.example.copro.board.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QPopularBoard is a Querydsl query type for PopularBoard
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QPopularBoard extends EntityPathBase<PopularBoard> {
+
+    private static final long serialVersionUID = -590831439L;
+
+    public static final QPopularBoard popularBoard = new QPopularBoard("popularBoard");
+
+    public final NumberPath<Long> boardId = createNumber("boardId", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> computedAt = createDateTime("computedAt", java.time.LocalDateTime.class);
+
+    public final StringPath rankingKey = createString("rankingKey");
+
+    public QPopularBoard(String variable) {
+        super(PopularBoard.class, forVariable(variable));
+    }
+
+    public QPopularBoard(Path<? extends PopularBoard> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QPopularBoard(PathMetadata metadata) {
+        super(PopularBoard.class, metadata);
+    }
+
+}
+
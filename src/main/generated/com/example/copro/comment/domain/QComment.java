@@ -39,6 +39,10 @@ public class QComment extends EntityPathBase<Comment> {
 
     public final QComment parent;
 
+    public final NumberPath<Integer> replyCount = createNumber("replyCount", Integer.class);
+
+    public final NumberPath<Long> rootId = createNumber("rootId", Long.class);
+
     public final com.example.copro.member.domain.QMember writer;
 
     public QComment(String variable) {
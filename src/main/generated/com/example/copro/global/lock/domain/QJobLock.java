@@ -0,0 +1,43 @@
+package com.example.copro.global.lock.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QJobLock is a Querydsl query type for JobLock
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QJobLock extends EntityPathBase<JobLock> {
+
+    private static final long serialVersionUID = -768199500L;
+
+    public static final QJobLock jobLock = new QJobLock("jobLock");
+
+    public final DateTimePath<java.time.LocalDateTime> lockedAt = createDateTime("lockedAt", java.time.LocalDateTime.class);
+
+    public final StringPath lockedBy = createString("lockedBy");
+
+    public final DateTimePath<java.time.LocalDateTime> lockedUntil = createDateTime("lockedUntil", java.time.LocalDateTime.class);
+
+    public final StringPath name = createString("name");
+
+    public QJobLock(String variable) {
+        super(JobLock.class, forVariable(variable));
+    }
+
+    public QJobLock(Path<? extends JobLock> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QJobLock(PathMetadata metadata) {
+        super(JobLock.class, metadata);
+    }
+
+}
+
@@ -19,6 +19,8 @@ public class QImage extends EntityPathBase<Image> {
 
     public static final QImage image = new QImage("image");
 
+    public final NumberPath<Long> boardId = createNumber("boardId", Long.class);
+
     public final StringPath convertImageName = createString("convertImageName");
 
     public final NumberPath<Long> id = createNumber("id", Long.class);
@@ -3,8 +3,12 @@ package com.example.copro.board.api;
 import com.example.copro.board.api.dto.request.BoardSaveReqDto;
 import com.example.copro.board.api.dto.request.HeartReqDto;
 import com.example.copro.board.api.dto.request.ScrapReqDto;
+import com.example.copro.board.api.dto.response.BoardCursorRspDto;
+import com.example.copro.board.api.dto.response.BoardInteractionResDto;
 import com.example.copro.board.api.dto.response.BoardListRspDto;
 import com.example.copro.board.api.dto.response.BoardResDto;
+import com.example.copro.board.api.dto.response.BoardSuggestResDto;
+import com.example.copro.board.api.dto.response.BoardTrendingResDto;
 import com.example.copro.board.api.dto.response.HeartSaveResDto;
 import com.example.copro.board.application.BoardService;
 import com.example.copro.board.application.ScheduledTasks;
@@ -20,6 +24,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -34,6 +39,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 //서비스 클래스에서 예외처리하자 데이터, 메시지, 상태코드를 템플릿에 담아 보내라
 @RequiredArgsConstructor
@@ -47,10 +53,13 @@ public class BoardController {
     @Operation(summary = "게시물 조회", description = "전체 게시물 조회 합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = BoardListRspDto.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음(If-None-Match)"),
             @ApiResponse(responseCode = "401", description = "인증실패", content = @Content(schema = @Schema(example = "INVALID_HEADER or INVALID_TOKEN"))),
     })
     @GetMapping("/list/{category}") //값 안보냈을때
     public RspTemplate<BoardListRspDto> handleGetAllBoard(
+            @AuthenticationPrincipal Member member,
+            WebRequest webRequest,
             @Parameter(name = "category", description = "게시물 카테고리(프로젝트, 자유, 공지사항)", in = ParameterIn.PATH)
             @PathVariable("category") String category,
             @Parameter(name = "page", description = "게시물 page", in = ParameterIn.QUERY)
@@ -64,7 +73,10 @@ public class BoardController {
                 "createAt".equals(standard.trim()) || "count".equals(standard.trim()) ? standard : "createAt";
         Pageable pageable = PageableUtil.of(page, size, Sort.by(Sort.Direction.DESC, sortProperty));
 
-        BoardListRspDto boardListRspDto = boardService.findAll(category, pageable);
+        if (webRequest.checkNotModified(boardService.listETag(category, pageable, member))) {
+            return null;
+        }
+        BoardListRspDto boardListRspDto = boardService.findAll(category, pageable, member);
 
         return new RspTemplate<>(HttpStatus.OK
                 , page + "번 페이지 조회 완료"
@@ -72,6 +84,41 @@ public class BoardController {
         );
     }
 
+    @Operation(summary = "게시물 커서 조회", description = "cursor 파라미터가 있으면 커서 기반으로 조회 합니다(첫 페이지는 빈 값)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = BoardCursorRspDto.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음(If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "401", description = "인증실패", content = @Content(schema = @Schema(example = "INVALID_HEADER or INVALID_TOKEN"))),
+    })
+    @GetMapping(value = "/list/{category}", params = "cursor")
+    public RspTemplate<BoardCursorRspDto> handleGetAllBoardByCursor(
+            @AuthenticationPrincipal Member member,
+            WebRequest webRequest,
+            @Parameter(name = "category", description = "게시물 카테고리(프로젝트, 자유, 공지사항)", in = ParameterIn.PATH)
+            @PathVariable("category") String category,
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor, 첫 페이지는 빈 값", in = ParameterIn.QUERY)
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(name = "size", description = "게시물 page size", in = ParameterIn.QUERY)
+            @RequestParam(defaultValue = "7") int size,
+            @Parameter(name = "standard", description = "정렬 기준 ex)create_at, count", in = ParameterIn.QUERY)
+            @RequestParam(defaultValue = "create_at") String standard
+    ) {
+        String sortProperty =
+                "createAt".equals(standard.trim()) || "count".equals(standard.trim()) ? standard : "createAt";
+        Pageable pageable = PageableUtil.of(1, size, Sort.by(Sort.Direction.DESC, sortProperty));
+
+        if (webRequest.checkNotModified(boardService.listETag(category, member))) {
+            return null;
+        }
+        BoardCursorRspDto boardCursorRspDto = boardService.findAllByCursor(category, cursor, pageable, member);
+
+        return new RspTemplate<>(HttpStatus.OK
+                , "커서 페이지 조회 완료"
+                , boardCursorRspDto
+        );
+    }
+
     @Operation(summary = "게시물 등록", description = "게시물 등록 합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "등록 성공", content = @Content(schema = @Schema(implementation = BoardResDto.class))),
@@ -121,6 +168,7 @@ public class BoardController {
     })
     @GetMapping("/search") //게시글 검색(제목만)
     public RspTemplate<BoardListRspDto> searchBoard(
+            @AuthenticationPrincipal Member member,
             @Parameter(name = "q", description = "검색할 제목", in = ParameterIn.QUERY)
             @RequestParam("q") String query,
             @Parameter(name = "page", description = "게시물 page", in = ParameterIn.QUERY)
@@ -133,7 +181,7 @@ public class BoardController {
                 "createAt".equals(standard.trim()) || "count".equals(standard.trim()) ? standard : "createAt";
         Pageable pageable = PageableUtil.of(page, size, Sort.by(Sort.Direction.DESC, sortProperty));
 
-        BoardListRspDto boardListRspDto = boardService.findByTitleContaining(query, pageable);
+        BoardListRspDto boardListRspDto = boardService.findByTitleContaining(query, pageable, member);
 
         return new RspTemplate<>(HttpStatus.OK
                 , query + "조회 완료"
@@ -141,14 +189,53 @@ public class BoardController {
         );
     }
 
+    @Operation(summary = "제목 자동완성", description = "입력한 접두사로 시작하는 제목을 좋아요, 조회수 순으로 추천 합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = BoardSuggestResDto.class))),
+            @ApiResponse(responseCode = "400", description = "추천 개수가 1 미만"),
+            @ApiResponse(responseCode = "401", description = "인증실패", content = @Content(schema = @Schema(example = "INVALID_HEADER or INVALID_TOKEN"))),
+    })
+    @GetMapping("/search/suggest")
+    public RspTemplate<BoardSuggestResDto> suggestBoardTitle(
+            @Parameter(name = "q", description = "입력 중인 제목", in = ParameterIn.QUERY)
+            @RequestParam("q") String query,
+            @Parameter(name = "size", description = "추천 개수(최대 10)", in = ParameterIn.QUERY)
+            @RequestParam(defaultValue = "10") int size) {
+        BoardSuggestResDto boardSuggestResDto = boardService.suggestTitle(query, size);
+
+        return new RspTemplate<>(HttpStatus.OK, "자동완성 조회 완료", boardSuggestResDto);
+    }
+
+    @Operation(summary = "좋아요/스크랩 여부 조회", description = "여러 게시물(최대 100개)의 좋아요, 스크랩 여부를 한 번에 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = BoardInteractionResDto.class))),
+            @ApiResponse(responseCode = "400", description = "게시물 id 개수 초과"),
+            @ApiResponse(responseCode = "401", description = "인증실패", content = @Content(schema = @Schema(example = "INVALID_HEADER or INVALID_TOKEN"))),
+    })
+    @GetMapping("/interactions")
+    public RspTemplate<BoardInteractionResDto> getInteractions(
+            @AuthenticationPrincipal Member member,
+            @Parameter(name = "boardIds", description = "게시물 id 목록 ex) 1,2,3", in = ParameterIn.QUERY)
+            @RequestParam("boardIds") List<Long> boardIds) {
+        BoardInteractionResDto boardInteractionResDto = boardService.findInteractions(member, boardIds);
+
+        return new RspTemplate<>(HttpStatus.OK, "좋아요/스크랩 여부 조회 완료", boardInteractionResDto);
+    }
+
     @Operation(summary = "상세 페이지", description = "상세 페이지로 넘겨 줍니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = BoardResDto.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음(If-None-Match)"),
             @ApiResponse(responseCode = "401", description = "인증실패", content = @Content(schema = @Schema(example = "INVALID_HEADER or INVALID_TOKEN"))),
     })
     @GetMapping //상세 페이지
     public RspTemplate<BoardResDto> getBoard(@AuthenticationPrincipal Member member,
-                                             @RequestParam("boardId") Long boardId) {
+                                             @RequestParam("boardId") Long boardId,
+                                             WebRequest webRequest) {
+        if (webRequest.checkNotModified(boardService.detailETag(member, boardId))) {
+            boardService.recordView(member, boardId);
+            return null;
+        }
         BoardResDto boardResDto = boardService.getBoard(member, boardId);
         return new RspTemplate<>(HttpStatus.OK
                 , boardId + "상세뷰 확인 완료"
@@ -204,6 +291,23 @@ public class BoardController {
         return new RspTemplate<>(HttpStatus.OK, heartDeleteReqDto.boardId() + "번 게시물 좋아요 삭제 완료",heartSaveResDto);
     }
 
+    @Operation(summary = "인기 게시물 목록", description = "최근 좋아요, 댓글, 조회가 몰린 게시물을 점수순으로 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = BoardTrendingResDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 카테고리 또는 조회 개수"),
+            @ApiResponse(responseCode = "401", description = "인증실패", content = @Content(schema = @Schema(example = "INVALID_HEADER or INVALID_TOKEN"))),
+    })
+    @GetMapping("/trending")
+    public RspTemplate<BoardTrendingResDto> getTrendingBoards(
+            @Parameter(name = "category", description = "게시물 카테고리(비우면 전체)", in = ParameterIn.QUERY)
+            @RequestParam(required = false) String category,
+            @Parameter(name = "limit", description = "조회 개수(최대 50)", in = ParameterIn.QUERY)
+            @RequestParam(defaultValue = "10") int limit) {
+        BoardTrendingResDto boardTrendingResDto = boardService.findTrending(category, limit);
+
+        return new RspTemplate<>(HttpStatus.OK, "인기 게시물 목록 조회 완료", boardTrendingResDto);
+    }
+
     @Operation(summary = "인기 게시물 조회", description = "인기 게시글 조회합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -211,8 +315,8 @@ public class BoardController {
     })
     @GetMapping("/most-increased-hearts")//인기 게시물
     public RspTemplate<BoardResDto> getMostIncreasedHeartsPost(@AuthenticationPrincipal Member member) {
-        Long boardId = scheduledTasks.getMostIncreasedHeartsPostId();
-        BoardResDto boardResDto = boardService.getBoard(member, boardId);
+        Long boardId = boardService.findMostTrendingBoardId(scheduledTasks.getMostIncreasedHeartsPostId());
+        BoardResDto boardResDto = boardService.getTrendingBoard(member, boardId);
         return new RspTemplate<>(HttpStatus.OK
                 , boardId + " 번 인기 게시물 조회 완료"
                 , boardResDto
@@ -0,0 +1,25 @@
+package com.example.copro.board.api.common;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class CursorInfoDto {  //커서 기반 페이지네이션 추가 정보, 전체 개수는 세지 않는다
+
+    int size;               // 요청한 페이지 사이즈
+    boolean hasNext;    // 다음 페이지 존재 여부
+    int numberOfElements;  // 현재 페이지의 데이터 수
+    String nextCursor;  // 다음 페이지 요청 시 그대로 보내줄 커서, 마지막 페이지면 null
+
+    public static CursorInfoDto of(Slice<?> slice, String nextCursor) {
+        return CursorInfoDto.builder()
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .numberOfElements(slice.getNumberOfElements())
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
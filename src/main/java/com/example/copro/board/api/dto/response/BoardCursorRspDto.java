@@ -0,0 +1,24 @@
+package com.example.copro.board.api.dto.response;
+
+import com.example.copro.board.api.common.CursorInfoDto;
+import com.example.copro.board.util.BoardCursor;
+import java.util.List;
+import org.springframework.data.domain.Slice;
+
+public record BoardCursorRspDto(
+        List<BoardDto> boards,
+        CursorInfoDto cursorInfo
+) {
+    public BoardCursorRspDto withBoards(List<BoardDto> boards) {
+        return new BoardCursorRspDto(boards, cursorInfo);
+    }
+
+    public static BoardCursorRspDto of(Slice<BoardDto> boards) {
+        List<BoardDto> boardDtoList = boards.getContent();
+        String nextCursor = boards.hasNext() && !boardDtoList.isEmpty()
+                ? BoardCursor.of(boardDtoList.get(boardDtoList.size() - 1)).encode()
+                : null;
+
+        return new BoardCursorRspDto(boardDtoList, CursorInfoDto.of(boards, nextCursor));
+    }
+}
@@ -1,7 +1,8 @@
 package com.example.copro.board.api.dto.response;
 
+import com.example.copro.board.application.BoardHydrationContext;
 import com.example.copro.board.domain.Board;
-import com.example.copro.image.api.dto.response.ImageBoardResDto;
+import com.example.copro.board.domain.BoardSummary;
 import java.time.LocalDateTime;
 import lombok.Builder;
 
@@ -15,35 +16,39 @@ public record BoardDto (
         int count,
         int heart,
         String imageUrl,
-        int commentCount
+        int commentCount,
+        boolean isHeart,
+        boolean isScrap
 ){ //안쪽에 dto쓰는 이유: 보수적인 작업을 위해(바깥쪽에선 이 dto안써짐)
     //빌더를 통해 밑에 생성자를 간접적으로 부를 수 있게 해줌, from을 사용하여 좀 더 명확한 메서드이름
-     public static BoardDto from(Board board) {
-        ImageBoardResDto image = ImageBoardResDto.from(board);
-
+     public static BoardDto from(Board board, BoardHydrationContext context) {
         return BoardDto.builder()
                 .id(board.getBoardId())
                 .title(board.getTitle())
-                .nickName(board.getMember().getNickName())
+                .nickName(context.nickName(board))
                 .createAt(board.getCreateAt())
                 .count(board.getCount())
                 .heart(board.getHeart())
-                .imageUrl(image.imageUrl())
+                .imageUrl(context.firstImageUrl(board))
+                .commentCount(context.commentCount(board))
                 .build();
     }
 
-    public static BoardDto from(Board board, int commentCount) {
-        ImageBoardResDto image = ImageBoardResDto.from(board);
+    // 조회한 회원의 좋아요, 스크랩 여부를 채운 복사본
+    public BoardDto withInteraction(boolean isHeart, boolean isScrap) {
+        return new BoardDto(id, title, nickName, createAt, count, heart, imageUrl, commentCount, isHeart, isScrap);
+    }
 
+    public static BoardDto from(BoardSummary boardSummary) {
         return BoardDto.builder()
-                .id(board.getBoardId())
-                .title(board.getTitle())
-                .nickName(board.getMember().getNickName())
-                .createAt(board.getCreateAt())
-                .count(board.getCount())
-                .heart(board.getHeart())
-                .imageUrl(image.imageUrl())
-                .commentCount(commentCount)
+                .id(boardSummary.getBoardId())
+                .title(boardSummary.getTitle())
+                .nickName(boardSummary.getNickName())
+                .createAt(boardSummary.getCreateAt())
+                .count(boardSummary.getCount())
+                .heart(boardSummary.getHeart())
+                .imageUrl(boardSummary.getImageUrl())
+                .commentCount(boardSummary.getCommentCount())
                 .build();
     }
 
@@ -0,0 +1,14 @@
+package com.example.copro.board.api.dto.response;
+
+import java.util.List;
+
+public record BoardInteractionResDto(
+        List<BoardInteractionDto> interactions
+) {
+    public record BoardInteractionDto(
+            Long boardId,
+            boolean isHeart,
+            boolean isScrap
+    ) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.copro.board.api.dto.response;
 
 import com.example.copro.board.api.common.PageInfoDto;
+import com.example.copro.board.application.BoardHydrationContext;
 import com.example.copro.board.domain.Board;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -13,15 +14,19 @@ public record BoardListRspDto(
         PageInfoDto pageInfo
 ) {
     //바깥에서 이 메서드를 통해 변환가능
-    public static BoardListRspDto from(Page<Board> boards) {
+    public static BoardListRspDto from(Page<Board> boards, BoardHydrationContext context) {
         List<BoardDto> boardDtoList = boards.getContent().stream()
-                .map(BoardDto::from)
+                .map(board -> BoardDto.from(board, context))
                 .collect(Collectors.toList());
         PageInfoDto pageInfoDto = PageInfoDto.from(boards);
 
         return new BoardListRspDto(boardDtoList, pageInfoDto);
     }
 
+    public BoardListRspDto withBoards(List<BoardDto> boards) {
+        return new BoardListRspDto(boards, pageInfo);
+    }
+
     public static BoardListRspDto of(Page<BoardDto> boards) {
         List<BoardDto> boardDtoList = boards.getContent();
         PageInfoDto pageInfoDto = PageInfoDto.from(boards);
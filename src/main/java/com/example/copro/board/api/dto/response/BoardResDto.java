@@ -1,8 +1,10 @@
 package com.example.copro.board.api.dto.response;
 
+import com.example.copro.board.application.BoardViewerState;
 import com.example.copro.board.domain.Board;
 import com.example.copro.board.domain.Category;
 import com.example.copro.board.domain.Tag;
+import com.example.copro.board.domain.repository.BoardDetail;
 import com.example.copro.image.domain.Image;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,6 +21,7 @@ public record BoardResDto(
         String part,
         Tag tag,
         int count,
+        long viewerCount,
         int heart,
         List<String> imageUrl,
         String nickName,
@@ -50,29 +53,27 @@ public record BoardResDto(
                 .build();
     }
 
-    public static BoardResDto from(Board board, boolean isHeart, boolean isScrap, int commentCount) {
-        List<String> imageUrl = board.getImages().stream()
-                .map(Image::getImageUrl)
-                .collect(Collectors.toList());
-
+    public static BoardResDto from(BoardDetail detail, List<String> imageUrl, int count, long viewerCount,
+                                   BoardViewerState viewerState) {
         return BoardResDto.builder()
-                .boardId(board.getBoardId())
-                .title(board.getTitle())
-                .createAt(board.getCreateAt())
-                .category(board.getCategory())
-                .contents(board.getContents())
-                .part(board.getPart())
-                .tag(board.getTag())
-                .count(board.getCount())
-                .nickName(board.getMember().getNickName())
-                .occupation(board.getMember().getOccupation())
-                .email(board.getMember().getEmail())
-                .picture(board.getMember().getPicture())
-                .heart(board.getHeart())
+                .boardId(detail.boardId())
+                .title(detail.title())
+                .createAt(detail.createAt())
+                .category(detail.category())
+                .contents(detail.contents())
+                .part(detail.part())
+                .tag(detail.tag())
+                .count(count)
+                .viewerCount(viewerCount)
+                .nickName(detail.nickName())
+                .occupation(detail.occupation())
+                .email(detail.email())
+                .picture(detail.picture())
+                .heart(detail.heart())
                 .imageUrl(imageUrl)
-                .isHeart(isHeart)
-                .isScrap(isScrap)
-                .commentCount(commentCount)
+                .isHeart(viewerState.isHeart())
+                .isScrap(viewerState.isScrap())
+                .commentCount(detail.commentCount())
                 .build();
     }
 
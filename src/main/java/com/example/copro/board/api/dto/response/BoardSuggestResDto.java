@@ -0,0 +1,20 @@
+package com.example.copro.board.api.dto.response;
+
+import com.example.copro.board.application.search.TitleSuggestTree;
+import java.util.List;
+
+public record BoardSuggestResDto(
+        List<BoardSuggestDto> suggestions
+) {
+    public static BoardSuggestResDto from(List<TitleSuggestTree.Suggestion> suggestions) {
+        return new BoardSuggestResDto(suggestions.stream()
+                .map(suggestion -> new BoardSuggestDto(suggestion.boardId(), suggestion.title()))
+                .toList());
+    }
+
+    public record BoardSuggestDto(
+            Long boardId,
+            String title
+    ) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.copro.board.api.dto.response;
+
+import com.example.copro.board.application.trending.TrendingBoard;
+import com.example.copro.board.domain.Category;
+import java.util.List;
+
+public record BoardTrendingResDto(
+        List<BoardTrendingDto> boards
+) {
+    public static BoardTrendingResDto from(List<TrendingBoard> boards) {
+        return new BoardTrendingResDto(boards.stream()
+                .map(board -> new BoardTrendingDto(board.boardId(), board.title(), board.category(), board.score()))
+                .toList());
+    }
+
+    public record BoardTrendingDto(
+            Long boardId,
+            String title,
+            Category category,
+            double score
+    ) {
+    }
+}
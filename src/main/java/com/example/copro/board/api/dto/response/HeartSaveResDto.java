@@ -14,4 +14,10 @@ public record HeartSaveResDto(
                 .build();
     }
 
+    public static HeartSaveResDto of(int heart) {
+        return HeartSaveResDto.builder()
+                .heart(heart)
+                .build();
+    }
+
 }
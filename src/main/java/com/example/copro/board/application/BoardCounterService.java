@@ -0,0 +1,66 @@
+package com.example.copro.board.application;
+
+import com.example.copro.board.domain.BoardCounter;
+import com.example.copro.board.domain.Category;
+import com.example.copro.board.domain.repository.BoardCategoryCount;
+import com.example.copro.board.domain.repository.BoardCounterRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// board_counter 갱신 담당. 호출한 쪽의 트랜잭션에 함께 묶여 게시물 변경과 같이 커밋, 롤백된다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BoardCounterService {
+    private final BoardCounterRepository boardCounterRepository;
+
+    public void increase(Category category) {
+        boardCounterRepository.add(List.of(BoardCounter.key(category), BoardCounter.ALL), 1);
+    }
+
+    public void decrease(Category category) {
+        boardCounterRepository.add(List.of(BoardCounter.key(category), BoardCounter.ALL), -1);
+    }
+
+    // 카테고리 변경, 전체 수는 그대로
+    public void move(Category from, Category to) {
+        if (from == to) {
+            return;
+        }
+        boardCounterRepository.add(List.of(BoardCounter.key(from)), -1);
+        boardCounterRepository.add(List.of(BoardCounter.key(to)), 1);
+    }
+
+    // 카운터가 없는 카테고리(최초 배포, 카테고리 추가)만 게시물 테이블에서 세어 만든다
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        Map<String, Long> counts = boardCounterRepository.countByCategory().stream()
+                .collect(Collectors.toMap(count -> BoardCounter.key(count.getCategory()), BoardCategoryCount::getTotal));
+
+        List<String> keys = new ArrayList<>();
+        for (Category category : Category.values()) {
+            keys.add(BoardCounter.key(category));
+        }
+        keys.add(BoardCounter.ALL);
+
+        for (String key : keys) {
+            if (boardCounterRepository.existsById(key)) {
+                continue;
+            }
+            long total = BoardCounter.ALL.equals(key)
+                    ? counts.values().stream().mapToLong(Long::longValue).sum()
+                    : counts.getOrDefault(key, 0L);
+            boardCounterRepository.save(BoardCounter.of(key, total));
+            log.info("board_counter 생성: {}={}", key, total);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.copro.board.application;
+
+import com.example.copro.board.domain.repository.BoardDetail;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시물 상세 중 조회하는 회원과 상관없는 부분(내용, 이미지, 작성자, 수치) 캐시.
+ * 키는 (게시물 id, BoardVersions 버전)이라 수정, 삭제, 이미지 삭제, 작성자 프로필 수정, 좋아요/댓글/조회수 반영이 있으면
+ * 다음 조회부터 새로 읽는다. 다른 서버에서 바뀐 내용은 TTL만큼 늦게 보일 수 있다.
+ *
+ * hit, miss, eviction은 cache.gets, cache.evictions{cache=board.detail} 지표로 확인한다.
+ */
+@Component
+public class BoardDetailCache {
+    private static final String CACHE_NAME = "board.detail";
+    private static final int MAXIMUM_SIZE = 2_000;
+    private static final Duration TTL = Duration.ofSeconds(60);
+
+    private final BoardVersions boardVersions;
+    private final Cache<DetailKey, CachedBoardDetail> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TTL)
+            .recordStats()
+            .build();
+
+    public BoardDetailCache(BoardVersions boardVersions, MeterRegistry meterRegistry) {
+        this.boardVersions = boardVersions;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 읽기 전 버전으로 저장하므로 읽는 중에 바뀌었다면 그 결과는 다음 조회에서 쓰이지 않는다
+    public CachedBoardDetail get(Long boardId, Supplier<CachedBoardDetail> loader) {
+        DetailKey key = new DetailKey(boardId, boardVersions.current(boardId));
+        CachedBoardDetail cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CachedBoardDetail loaded = loader.get();
+        cache.put(key, loaded);
+        return loaded;
+    }
+
+    public record CachedBoardDetail(
+            BoardDetail detail,
+            List<String> imageUrls
+    ) {
+    }
+
+    private record DetailKey(
+            Long boardId,
+            long version
+    ) {
+    }
+}
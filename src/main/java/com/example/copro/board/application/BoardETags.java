@@ -0,0 +1,46 @@
+package com.example.copro.board.application;
+
+import com.example.copro.board.domain.Category;
+import java.security.SecureRandom;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조건부 GET(If-None-Match)용 strong ETag. BoardVersions 버전으로 만들므로 ETag 계산에 DB를 거치지 않는다.
+ * 버전은 서버마다 따로 세므로 서버 시작 시 정한 epoch를 넣어 다른 서버, 재시작 전 서버의 ETag와 겹치지 않게 한다.
+ * 다른 서버에서 일어난 변경, 주기적으로 반영되는 조회수는 버전에 잡히지 않아 MAX_AGE 단위 시간 구간도 함께 넣는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardETags {
+    private static final Duration MAX_AGE = Duration.ofMinutes(1);
+    private static final String EPOCH = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+
+    private final BoardVersions boardVersions;
+
+    // 상세는 회원별 좋아요/스크랩 여부가 들어가므로 회원 버전도 넣는다
+    public String detail(Long boardId, Long memberId) {
+        return tag("d" + boardId, boardVersions.current(boardId), boardVersions.member(memberId));
+    }
+
+    // 목록도 회원별 좋아요/스크랩 표시가 들어간다
+    public String list(Category category, Long memberId) {
+        return list(category, boardVersions.list(category), memberId);
+    }
+
+    // 캐시된 첫 페이지처럼 내려줄 목록의 버전을 따로 아는 경우
+    public String list(Category category, long listVersion, Long memberId) {
+        return tag("l" + category.ordinal(), listVersion, boardVersions.member(memberId));
+    }
+
+    // 댓글 목록 버전은 DB(board_summary.comment_version)에 있어 모든 서버가 같은 값을 보므로 epoch, 시간 구간을 넣지 않는다
+    public String comments(Long boardId, long threadVersion) {
+        return "\"c" + boardId + "-" + threadVersion + "\"";
+    }
+
+    private String tag(String resource, long version, long memberVersion) {
+        long window = System.currentTimeMillis() / MAX_AGE.toMillis();
+        return "\"" + resource + "-" + EPOCH + "-" + version + "-" + memberVersion + "-" + window + "\"";
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.copro.board.application;
+
+import com.example.copro.board.api.dto.response.BoardDto;
+import com.example.copro.board.api.dto.response.BoardListRspDto;
+import com.example.copro.board.application.event.BoardChangedEvent;
+import com.example.copro.board.application.event.BoardCountChangedEvent;
+import com.example.copro.board.application.event.BoardSnapshot;
+import com.example.copro.board.domain.Category;
+import com.example.copro.board.domain.repository.BoardRepository;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 카테고리, 정렬별 게시물 목록 첫 페이지 캐시.
+ * 게시물, 좋아요, 댓글이 바뀌면 관련 페이지만 별도 스레드에서 다시 만들고, 그동안은 이전 페이지를 그대로 내려준다.
+ * 캐시가 비어 있을 때 동시에 들어온 요청은 한 번의 조회 결과를 함께 기다린다.
+ * 조회수는 이벤트로 반영하지 않으므로 MAX_AGE가 지나면 읽을 때 다시 만든다.
+ * 페이지마다 만들기 시작할 때의 목록 버전을 같이 두어, 다시 만드는 중에도 ETag가 내려주는 페이지보다 앞서지 않게 한다.
+ */
+@Slf4j
+@Component
+public class BoardFirstPageCache {
+    private static final int MAX_CACHED_SIZE = 30;
+    private static final Duration MAX_AGE = Duration.ofMinutes(1);
+
+    private final BoardRepository boardRepository;
+    private final BoardVersions boardVersions;
+    private final TaskExecutor executor;
+    private final ConcurrentHashMap<FirstPageKey, Entry> entries = new ConcurrentHashMap<>();
+
+    public BoardFirstPageCache(BoardRepository boardRepository, BoardVersions boardVersions,
+                               @Qualifier("boardCacheExecutor") TaskExecutor executor) {
+        this.boardRepository = boardRepository;
+        this.boardVersions = boardVersions;
+        this.executor = executor;
+    }
+
+    public boolean supports(Pageable pageable) {
+        return pageable.getPageNumber() == 0 && pageable.getPageSize() <= MAX_CACHED_SIZE;
+    }
+
+    public BoardListRspDto get(Category category, Pageable pageable) {
+        return entryOf(category, pageable).get().page();
+    }
+
+    // 지금 내려줄 페이지를 만들 때의 목록 버전(BoardVersions.list), 이후 get은 이 버전 이상의 페이지를 돌려준다
+    public long version(Category category, Pageable pageable) {
+        return entryOf(category, pageable).get().version();
+    }
+
+    private Entry entryOf(Category category, Pageable pageable) {
+        FirstPageKey key = new FirstPageKey(category, pageable.getPageSize(), pageable.getSort());
+        return entries.computeIfAbsent(key, Entry::new);
+    }
+
+    // 등록, 삭제, 카테고리 변경은 해당 카테고리 첫 페이지 전체에 영향을 준다
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        Set<Category> categories = Stream.of(event.before(), event.after())
+                .filter(Objects::nonNull)
+                .map(BoardSnapshot::category)
+                .collect(Collectors.toSet());
+
+        entries.values().stream()
+                .filter(entry -> categories.contains(entry.key.category()))
+                .forEach(Entry::scheduleRebuild);
+    }
+
+    // 좋아요, 댓글 수는 그 게시물이 실린 페이지만 다시 만든다
+    @TransactionalEventListener
+    public void onBoardCountChanged(BoardCountChangedEvent event) {
+        entries.values().stream()
+                .filter(entry -> entry.contains(event.boardId()))
+                .forEach(Entry::scheduleRebuild);
+    }
+
+    private record FirstPageKey(
+            Category category,
+            int size,
+            Sort sort
+    ) {
+        Pageable pageable() {
+            return PageRequest.of(0, size, sort);
+        }
+    }
+
+    private record Snapshot(
+            BoardListRspDto page,
+            Set<Long> boardIds,
+            long version,
+            long loadedAt
+    ) {
+        boolean isExpired() {
+            return System.currentTimeMillis() - loadedAt > MAX_AGE.toMillis();
+        }
+    }
+
+    private class Entry {
+        private final FirstPageKey key;
+        private volatile Snapshot snapshot;
+        private final AtomicReference<CompletableFuture<Snapshot>> coldLoad = new AtomicReference<>();
+        private final AtomicBoolean rebuilding = new AtomicBoolean();
+        private volatile boolean dirty;
+
+        Entry(FirstPageKey key) {
+            this.key = key;
+        }
+
+        Snapshot get() {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return loadCold();
+            }
+            if (current.isExpired()) {
+                scheduleRebuild();
+            }
+            return current;
+        }
+
+        boolean contains(Long boardId) {
+            Snapshot current = snapshot;
+            return current != null && current.boardIds().contains(boardId);
+        }
+
+        // 처음 조회하는 스레드만 DB를 읽고 나머지는 그 결과를 기다린다
+        private Snapshot loadCold() {
+            CompletableFuture<Snapshot> future = new CompletableFuture<>();
+            CompletableFuture<Snapshot> inFlight = coldLoad.compareAndExchange(null, future);
+            if (inFlight != null) {
+                try {
+                    return inFlight.join();
+                } catch (CompletionException e) {
+                    throw e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+
+            try {
+                Snapshot loaded = load();
+                snapshot = loaded;
+                future.complete(loaded);
+                return loaded;
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                throw e;
+            } finally {
+                coldLoad.set(null);
+            }
+        }
+
+        // 재구성 중에 또 변경이 오면 끝난 뒤 한 번 더 만든다. 여러 번 와도 한 번으로 합친다.
+        void scheduleRebuild() {
+            if (snapshot == null) {
+                return;
+            }
+            dirty = true;
+            if (rebuilding.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::rebuild);
+                } catch (RejectedExecutionException e) {
+                    rebuilding.set(false);
+                    log.warn("게시물 목록 캐시 재구성 요청이 거절되었습니다. {}", key);
+                }
+            }
+        }
+
+        private void rebuild() {
+            try {
+                while (dirty) {
+                    dirty = false;
+                    snapshot = load();
+                }
+            } catch (RuntimeException e) {
+                log.warn("게시물 목록 캐시 재구성 실패 {}", key, e);
+            } finally {
+                rebuilding.set(false);
+            }
+
+            if (dirty) {
+                scheduleRebuild();
+            }
+        }
+
+        // 버전을 먼저 읽으므로 페이지는 적어도 그 버전까지의 변경을 담는다
+        private Snapshot load() {
+            long version = boardVersions.list(key.category());
+            BoardListRspDto page = BoardListRspDto.of(boardRepository.findAllWithCommentCount(key.category(), key.pageable()));
+            Set<Long> boardIds = page.boards().stream()
+                    .map(BoardDto::id)
+                    .collect(Collectors.toSet());
+
+            return new Snapshot(page, boardIds, version, System.currentTimeMillis());
+        }
+    }
+}
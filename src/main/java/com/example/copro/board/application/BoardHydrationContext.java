@@ -0,0 +1,34 @@
+package com.example.copro.board.application;
+
+import com.example.copro.board.domain.Board;
+import com.example.copro.member.domain.Member;
+import java.util.Map;
+
+// 목록 DTO 변환 시 지연 로딩 대신 참조하는, 한 페이지 분량의 미리 읽어둔 연관 데이터
+public record BoardHydrationContext(
+        Map<Long, Member> members,
+        Map<Long, String> firstImageUrls,
+        Map<Long, Integer> commentCounts
+) {
+    public static BoardHydrationContext empty() {
+        return new BoardHydrationContext(Map.of(), Map.of(), Map.of());
+    }
+
+    public Member member(Board board) {
+        // 프록시에서 id만 꺼내므로 추가 쿼리가 나가지 않는다
+        return board.getMember() == null ? null : members.get(board.getMember().getMemberId());
+    }
+
+    public String nickName(Board board) {
+        Member member = member(board);
+        return member == null ? null : member.getNickName();
+    }
+
+    public String firstImageUrl(Board board) {
+        return firstImageUrls.get(board.getBoardId());
+    }
+
+    public int commentCount(Board board) {
+        return commentCounts.getOrDefault(board.getBoardId(), 0);
+    }
+}
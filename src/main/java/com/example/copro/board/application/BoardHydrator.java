@@ -0,0 +1,67 @@
+package com.example.copro.board.application;
+
+import com.example.copro.board.domain.Board;
+import com.example.copro.board.domain.repository.BoardImageUrl;
+import com.example.copro.board.domain.repository.BoardRepository;
+import com.example.copro.comment.domain.repository.BoardCommentCount;
+import com.example.copro.comment.domain.repository.CommentRepository;
+import com.example.copro.member.domain.Member;
+import com.example.copro.member.domain.repository.MemberRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 한 페이지의 게시물이 필요로 하는 작성자, 대표 이미지, 댓글 수를 연관관계마다 IN 쿼리 한 번으로 읽어온다.
+// 페이지 크기와 상관없이 쿼리 수는 최대 3개로 고정된다.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BoardHydrator {
+    private final MemberRepository memberRepository;
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+
+    public BoardHydrationContext hydrate(Collection<Board> boards) {
+        if (boards.isEmpty()) {
+            return BoardHydrationContext.empty();
+        }
+
+        List<Long> boardIds = boards.stream()
+                .map(Board::getBoardId)
+                .toList();
+        Set<Long> memberIds = boards.stream()
+                .map(Board::getMember)
+                .filter(Objects::nonNull)
+                .map(Member::getMemberId)
+                .collect(Collectors.toSet());
+
+        return new BoardHydrationContext(findMembers(memberIds), findFirstImageUrls(boardIds), findCommentCounts(boardIds));
+    }
+
+    private Map<Long, Member> findMembers(Set<Long> memberIds) {
+        return memberRepository.findAllById(memberIds).stream()
+                .collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+    }
+
+    // 이미지 id 오름차순으로 받아 게시물별 첫 번째만 남긴다
+    private Map<Long, String> findFirstImageUrls(List<Long> boardIds) {
+        Map<Long, String> firstImageUrls = new HashMap<>();
+        for (BoardImageUrl boardImageUrl : boardRepository.findImageUrlsByBoardIdIn(boardIds)) {
+            firstImageUrls.putIfAbsent(boardImageUrl.getBoardId(), boardImageUrl.getImageUrl());
+        }
+        return firstImageUrls;
+    }
+
+    private Map<Long, Integer> findCommentCounts(List<Long> boardIds) {
+        return commentRepository.countByBoardIdIn(boardIds).stream()
+                .collect(Collectors.toMap(BoardCommentCount::getBoardId, count -> count.getCommentCount().intValue()));
+    }
+}
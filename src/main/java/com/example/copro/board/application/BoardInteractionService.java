@@ -0,0 +1,125 @@
+package com.example.copro.board.application;
+
+import com.example.copro.board.api.dto.response.BoardDto;
+import com.example.copro.board.api.dto.response.BoardInteractionResDto;
+import com.example.copro.board.api.dto.response.BoardInteractionResDto.BoardInteractionDto;
+import com.example.copro.board.application.event.BoardInteractionChangedEvent;
+import com.example.copro.board.domain.repository.MemberHeartBoardRepository;
+import com.example.copro.board.exception.InteractionBoardIdsExceededException;
+import com.example.copro.global.util.RoaringBitmap;
+import com.example.copro.member.domain.repository.MemberScrapBoardRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 회원별 좋아요, 스크랩한 게시물 id를 압축 비트맵으로 들고 있다가 게시물 목록의 좋아요/스크랩 표시를 메모리에서 채운다.
+ * 처음 조회할 때 DB에서 읽고, 최근에 쓰지 않은 회원부터 내보낸다. 등록/취소는 커밋 이후 이벤트로 반영한다.
+ * 이벤트는 같은 서버에만 오므로 다른 서버에서 누른 좋아요/스크랩은 RELOAD_AFTER 안에 다시 읽어 맞춘다.
+ *
+ * hit, miss, eviction은 cache.gets, cache.evictions{cache=board.interaction} 지표로 확인한다.
+ */
+@Service
+public class BoardInteractionService {
+    public static final int MAX_BOARD_IDS = 100;
+
+    private static final String CACHE_NAME = "board.interaction";
+    private static final int MAXIMUM_MEMBERS = 10_000;
+    // 다른 서버에서 누른 좋아요/스크랩이 늦게 보이는 최대 시간. 회원당 이 시간마다 쿼리 두 번이 더 나간다
+    private static final Duration RELOAD_AFTER = Duration.ofSeconds(5);
+
+    private final MemberHeartBoardRepository memberHeartBoardRepository;
+    private final MemberScrapBoardRepository memberScrapBoardRepository;
+    private final Cache<Long, Interactions> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_MEMBERS)
+            .expireAfterWrite(RELOAD_AFTER)
+            .recordStats()
+            .build();
+
+    public BoardInteractionService(MemberHeartBoardRepository memberHeartBoardRepository,
+                                   MemberScrapBoardRepository memberScrapBoardRepository, MeterRegistry meterRegistry) {
+        this.memberHeartBoardRepository = memberHeartBoardRepository;
+        this.memberScrapBoardRepository = memberScrapBoardRepository;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public BoardInteractionResDto findInteractions(Long memberId, List<Long> boardIds) {
+        if (boardIds.size() > MAX_BOARD_IDS) {
+            throw new InteractionBoardIdsExceededException(MAX_BOARD_IDS);
+        }
+
+        Interactions interactions = interactionsOf(memberId);
+        return new BoardInteractionResDto(boardIds.stream()
+                .map(boardId -> new BoardInteractionDto(boardId, interactions.isHeart(boardId), interactions.isScrap(boardId)))
+                .toList());
+    }
+
+    // 상세 화면의 좋아요/스크랩 여부
+    public BoardViewerState viewerState(Long memberId, Long boardId) {
+        Interactions interactions = interactionsOf(memberId);
+        return new BoardViewerState(interactions.isHeart(boardId), interactions.isScrap(boardId));
+    }
+
+    // 목록 응답(공유 캐시에서 나온 값일 수 있음)에 회원별 좋아요/스크랩 표시를 덧붙인 새 목록
+    public List<BoardDto> withInteractions(Long memberId, List<BoardDto> boards) {
+        if (memberId == null || boards.isEmpty()) {
+            return boards;
+        }
+
+        Interactions interactions = interactionsOf(memberId);
+        return boards.stream()
+                .map(board -> board.withInteraction(interactions.isHeart(board.id()), interactions.isScrap(board.id())))
+                .toList();
+    }
+
+    // 읽는 중에 들어온 이벤트는 읽기가 끝난 뒤에 반영된다(같은 키의 compute는 순서대로 실행)
+    @TransactionalEventListener
+    public void onInteractionChanged(BoardInteractionChangedEvent event) {
+        cache.asMap().computeIfPresent(event.memberId(), (memberId, interactions) -> {
+            interactions.apply(event);
+            return interactions;
+        });
+    }
+
+    private Interactions interactionsOf(Long memberId) {
+        return cache.get(memberId, id -> new Interactions(
+                RoaringBitmap.of(toArray(memberHeartBoardRepository.findBoardIdsByMemberId(id))),
+                RoaringBitmap.of(toArray(memberScrapBoardRepository.findBoardIdsByMemberId(id)))));
+    }
+
+    private long[] toArray(List<Long> boardIds) {
+        return boardIds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static class Interactions {
+        private final RoaringBitmap hearts;
+        private final RoaringBitmap scraps;
+
+        Interactions(RoaringBitmap hearts, RoaringBitmap scraps) {
+            this.hearts = hearts;
+            this.scraps = scraps;
+        }
+
+        synchronized boolean isHeart(long boardId) {
+            return hearts.contains(boardId);
+        }
+
+        synchronized boolean isScrap(long boardId) {
+            return scraps.contains(boardId);
+        }
+
+        synchronized void apply(BoardInteractionChangedEvent event) {
+            RoaringBitmap bitmap = event.interaction() == BoardInteractionChangedEvent.Interaction.HEART ? hearts : scraps;
+            if (event.added()) {
+                bitmap.add(event.boardId());
+            } else {
+                bitmap.remove(event.boardId());
+            }
+        }
+    }
+}
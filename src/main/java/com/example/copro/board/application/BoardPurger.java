@@ -0,0 +1,147 @@
+package com.example.copro.board.application;
+
+import com.example.copro.board.domain.repository.BoardRepository;
+import com.example.copro.global.lock.application.JobLockService;
+import com.example.copro.image.application.ImageService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 삭제 표시된 게시물(board.deleted = true)의 자식 행과 S3 이미지를 정리한 뒤 게시물 행을 지운다.
+ * 각 문장은 CHUNK_SIZE행까지만 지우고 바로 커밋하므로 좋아요가 수천 건인 게시물도 잠금을 오래 잡지 않는다.
+ * 중간에 실패해도 다음 실행에서 남은 행부터 다시 지운다. (MariaDB 문법)
+ * 게시물은 board_id 순서로 이어서 훑으므로 계속 실패하는 게시물이 앞을 막지 않는다. 실패한 게시물은 점점 늦게 다시 시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardPurger {
+    private static final String JOB_NAME = "board-purge";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+    private static final int CHUNK_SIZE = 500;
+    private static final int BOARDS_PER_RUN = 20;
+    private static final Duration RETRY_BACKOFF = Duration.ofMinutes(1);
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofHours(6);
+
+    private static final List<String> DELETE_CHILDREN = List.of(
+            "delete from member_heart_board where board_id = ? limit ?",
+            "delete from member_scrap_board where board_id = ? limit ?",
+            "delete from report where board_id = ? limit ?",
+            "delete from board_heart_shard where board_id = ? limit ?",
+            "delete from board_viewer_sketch where board_id = ? limit ?"
+    );
+    // 대댓글이 부모를 참조하므로 부모 연결을 먼저 끊고 지운다
+    private static final String DETACH_REPLIES = "update comment set parent_id = null where board_id = ? and parent_id is not null limit ?";
+    private static final String DELETE_COMMENTS = "delete from comment where board_id = ? limit ?";
+    private static final String FIND_IMAGES = "select image_id, convert_image_name from image where board_id = ? order by image_id limit ?";
+    private static final String DELETE_IMAGES = "delete from image where board_id = ? and image_id <= ?";
+    private static final String DELETE_BOARD = "delete from board where board_id = ? and deleted = true";
+
+    private final BoardRepository boardRepository;
+    private final ImageService imageService;
+    private final JobLockService jobLockService;
+    private final JdbcTemplate jdbcTemplate;
+    // 실패한 게시물별 연속 실패 횟수와 다음 시도 시각(이 서버 기준)
+    private final Map<Long, Failure> failures = new ConcurrentHashMap<>();
+    // 마지막으로 훑은 board_id, 끝까지 훑으면 처음부터 다시
+    private volatile long cursor;
+
+    // 여러 서버 중 잠금을 잡은 한 곳에서만 실행한다
+    @Scheduled(fixedDelay = 30_000)
+    public void purge() {
+        jobLockService.runLocked(JOB_NAME, LOCK_AT_MOST_FOR, Duration.ZERO, this::purgeNext);
+    }
+
+    private void purgeNext() {
+        List<Long> boardIds = boardRepository.findDeletedBoardIdsAfter(cursor, BOARDS_PER_RUN);
+        cursor = boardIds.size() < BOARDS_PER_RUN ? 0 : boardIds.get(boardIds.size() - 1);
+
+        long now = System.currentTimeMillis();
+        boardIds.stream()
+                .filter(boardId -> isDue(boardId, now))
+                .forEach(this::purgeSafely);
+    }
+
+    private boolean isDue(Long boardId, long now) {
+        Failure failure = failures.get(boardId);
+        return failure == null || failure.retryAt() <= now;
+    }
+
+    private void purgeSafely(Long boardId) {
+        try {
+            purge(boardId);
+            failures.remove(boardId);
+        } catch (RuntimeException e) {
+            Failure failure = failures.merge(boardId, Failure.first(), (previous, first) -> previous.next());
+            log.error("{}번 삭제 게시물 정리 {}회 연속 실패, {}분 뒤 다시 시도합니다.",
+                    boardId, failure.attempts(), failure.backoff().toMinutes(), e);
+        }
+    }
+
+    private void purge(Long boardId) {
+        long rows = 0;
+        for (String sql : DELETE_CHILDREN) {
+            rows += updateInChunks(sql, boardId);
+        }
+        updateInChunks(DETACH_REPLIES, boardId);
+        rows += updateInChunks(DELETE_COMMENTS, boardId);
+        rows += purgeImages(boardId);
+        jdbcTemplate.update(DELETE_BOARD, boardId);
+
+        log.info("{}번 삭제 게시물 정리 완료: 자식 행 {}건", boardId, rows);
+    }
+
+    private long updateInChunks(String sql, Long boardId) {
+        long total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(sql, boardId, CHUNK_SIZE);
+            total += updated;
+        } while (updated == CHUNK_SIZE);
+        return total;
+    }
+
+    // S3 객체를 먼저 지우고 행을 지운다. 반대로 하면 실패 시 S3에 주인 없는 객체가 남는다.
+    private long purgeImages(Long boardId) {
+        long total = 0;
+        List<PurgedImage> images;
+        do {
+            images = jdbcTemplate.query(FIND_IMAGES,
+                    (rs, rowNum) -> new PurgedImage(rs.getLong("image_id"), rs.getString("convert_image_name")),
+                    boardId, CHUNK_SIZE);
+            if (images.isEmpty()) {
+                break;
+            }
+
+            imageService.deleteObjects(images.stream().map(PurgedImage::convertImageName).toList());
+            total += jdbcTemplate.update(DELETE_IMAGES, boardId, images.get(images.size() - 1).imageId());
+        } while (images.size() == CHUNK_SIZE);
+        return total;
+    }
+
+    private record PurgedImage(long imageId, String convertImageName) {
+    }
+
+    // 실패할 때마다 대기 시간을 두 배로 늘린다(최대 MAX_RETRY_BACKOFF)
+    private record Failure(int attempts, Duration backoff, long retryAt) {
+        static Failure first() {
+            return of(1, RETRY_BACKOFF);
+        }
+
+        Failure next() {
+            Duration doubled = backoff.multipliedBy(2);
+            return of(attempts + 1, doubled.compareTo(MAX_RETRY_BACKOFF) > 0 ? MAX_RETRY_BACKOFF : doubled);
+        }
+
+        private static Failure of(int attempts, Duration backoff) {
+            return new Failure(attempts, backoff, System.currentTimeMillis() + backoff.toMillis());
+        }
+    }
+}
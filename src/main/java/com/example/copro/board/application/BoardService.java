@@ -3,13 +3,29 @@ package com.example.copro.board.application;
 import com.example.copro.board.api.dto.request.BoardSaveReqDto;
 import com.example.copro.board.api.dto.request.HeartReqDto;
 import com.example.copro.board.api.dto.request.ScrapReqDto;
+import com.example.copro.board.api.dto.response.BoardCursorRspDto;
 import com.example.copro.board.api.dto.response.BoardDto;
+import com.example.copro.board.api.dto.response.BoardInteractionResDto;
 import com.example.copro.board.api.dto.response.BoardListRspDto;
 import com.example.copro.board.api.dto.response.BoardResDto;
+import com.example.copro.board.api.dto.response.BoardSuggestResDto;
+import com.example.copro.board.api.dto.response.BoardTrendingResDto;
 import com.example.copro.board.api.dto.response.HeartSaveResDto;
+import com.example.copro.board.application.event.BoardActivityEvent;
+import com.example.copro.board.application.event.BoardChangedEvent;
+import com.example.copro.board.application.event.BoardCountChangedEvent;
+import com.example.copro.board.application.event.BoardInteractionChangedEvent;
+import com.example.copro.board.application.event.BoardInteractionChangedEvent.Interaction;
+import com.example.copro.board.application.event.BoardSnapshot;
+import com.example.copro.board.application.search.BoardSearchCache;
+import com.example.copro.board.application.search.BoardSearchEngine;
+import com.example.copro.board.application.search.BoardSearchResult;
+import com.example.copro.board.application.search.BoardSuggester;
+import com.example.copro.board.application.trending.BoardTrendingEngine;
 import com.example.copro.board.domain.Board;
 import com.example.copro.board.domain.Category;
-import com.example.copro.board.domain.MemberHeartBoard;
+import com.example.copro.board.domain.repository.BoardDetail;
+import com.example.copro.board.domain.repository.BoardImageUrl;
 import com.example.copro.board.domain.repository.BoardRepository;
 import com.example.copro.board.domain.repository.MemberHeartBoardRepository;
 import com.example.copro.board.exception.AlreadyHeartException;
@@ -17,10 +33,13 @@ import com.example.copro.board.exception.AlreadyScrapException;
 import com.example.copro.board.exception.BoardNotFoundException;
 import com.example.copro.board.exception.HeartNotFoundException;
 import com.example.copro.board.exception.ImageCountExceededException;
+import com.example.copro.board.exception.InvalidCategoryException;
+import com.example.copro.board.exception.InvalidLimitException;
 import com.example.copro.board.exception.MappedImageException;
 import com.example.copro.board.exception.NotBoardOwnerException;
 import com.example.copro.board.exception.ScrapNotFoundException;
-import com.example.copro.comment.domain.repository.CommentRepository;
+import com.example.copro.board.util.BoardCursor;
+import com.example.copro.global.util.Hangul;
 import com.example.copro.image.domain.Image;
 import com.example.copro.image.domain.repository.ImageRepository;
 import com.example.copro.member.domain.Member;
@@ -30,9 +49,13 @@ import com.example.copro.member.exception.MemberNotFoundException;
 import com.example.copro.notification.application.FCMNotificationService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -44,14 +67,72 @@ public class BoardService {
     private final MemberScrapBoardRepository memberScrapBoardRepository;
     private final MemberHeartBoardRepository memberHeartBoardRepository;
     private final ImageRepository imageRepository;
-    private final CommentRepository commentRepository;
     private final FCMNotificationService fcmNotificationService;
+    private final BoardSummaryService boardSummaryService;
+    private final BoardCounterService boardCounterService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final HeartCounter heartCounter;
+    private final BoardViewTracker boardViewTracker;
+    private final BoardFirstPageCache boardFirstPageCache;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardETags boardETags;
+    private final BoardInteractionService boardInteractionService;
+    private final BoardSearchEngine boardSearchEngine;
+    private final BoardSearchCache boardSearchCache;
+    private final BoardSuggester boardSuggester;
+    private final BoardTrendingEngine boardTrendingEngine;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 목록은 회원과 상관없이 만들고(캐시 가능) 응답 직전에 회원별 좋아요/스크랩 표시를 덧붙인다
+    public BoardListRspDto findAll(String category, Pageable pageable, Member member) {
+        BoardListRspDto boardListRspDto;
+        // 첫 페이지는 미리 만들어 둔 목록으로 응답
+        if (boardFirstPageCache.supports(pageable)) {
+            boardListRspDto = boardFirstPageCache.get(Category.valueOf(category), pageable);
+        } else {
+            //Page<Board> boards = boardRepository.findAllByCategory(Category.valueOf(category), pageable);
+            Page<BoardDto> boards = boardRepository.findAllWithCommentCount(Category.valueOf(category), pageable);
+            boardListRspDto = BoardListRspDto.of(boards);
+        }
+
+        return withInteractions(boardListRspDto, member);
+    }
+
+    // 목록 ETag(카테고리 목록 버전 + 회원 좋아요/스크랩 버전), 바뀐 게 없으면 목록을 조회하지 않고 304로 응답한다
+    public String listETag(String category, Member member) {
+        return boardETags.list(Category.valueOf(category), memberIdOf(member));
+    }
+
+    // 첫 페이지는 캐시가 다시 만들어지기 전까지 이전 페이지를 내려주므로 그 페이지를 만든 버전으로 ETag를 만든다
+    public String listETag(String category, Pageable pageable, Member member) {
+        if (boardFirstPageCache.supports(pageable)) {
+            Category parsed = Category.valueOf(category);
+            return boardETags.list(parsed, boardFirstPageCache.version(parsed, pageable), memberIdOf(member));
+        }
+        return listETag(category, member);
+    }
+
+    // 커서 기반 조회, 전체 개수 대신 다음 커서와 다음 페이지 여부만 내려준다
+    public BoardCursorRspDto findAllByCursor(String category, String cursor, Pageable pageable, Member member) {
+        Slice<BoardDto> boards = boardRepository.findAllWithCommentCountByCursor(Category.valueOf(category), BoardCursor.decode(cursor), pageable);
+
+        BoardCursorRspDto boardCursorRspDto = BoardCursorRspDto.of(boards);
+        return boardCursorRspDto.withBoards(
+                boardInteractionService.withInteractions(memberIdOf(member), boardCursorRspDto.boards()));
+    }
 
-    public BoardListRspDto findAll(String category, Pageable pageable) {
-        //Page<Board> boards = boardRepository.findAllByCategory(Category.valueOf(category), pageable);
-        Page<BoardDto> boards = boardRepository.findAllWithCommentCount(Category.valueOf(category), pageable);
+    // 목록 화면에서 보고 있는 게시물들의 좋아요/스크랩 여부를 한 번에 조회
+    public BoardInteractionResDto findInteractions(Member member, List<Long> boardIds) {
+        return boardInteractionService.findInteractions(member.getMemberId(), boardIds);
+    }
+
+    private BoardListRspDto withInteractions(BoardListRspDto boardListRspDto, Member member) {
+        return boardListRspDto.withBoards(
+                boardInteractionService.withInteractions(memberIdOf(member), boardListRspDto.boards()));
+    }
 
-        return BoardListRspDto.of(boards);
+    private Long memberIdOf(Member member) {
+        return member == null ? null : member.getMemberId();
     }
 
     //서비스에서 보드를 찾아 이미지가 null인지 아닌지
@@ -61,7 +142,7 @@ public class BoardService {
         List<Image> images = imageRepository.findAllByIdIn(boardSaveReqDto.imageId());
 
         // 이미지가 이미 매핑된 게시판이 있는지 체크하는 로직
-        checkForAlreadyMappedImages(images);
+        checkForAlreadyMappedImages(boardSaveReqDto.imageId());
 
         Board board = builderBoard(boardSaveReqDto, member, images);
 
@@ -69,6 +150,9 @@ public class BoardService {
         checkTotalImageCount(board, images);
 
         Board saveBoard = boardRepository.save(board);
+        boardSummaryService.create(saveBoard);
+        boardCounterService.increase(saveBoard.getCategory());
+        eventPublisher.publishEvent(BoardChangedEvent.created(saveBoard));
 
         return BoardResDto.of(saveBoard);
     }
@@ -95,24 +179,29 @@ public class BoardService {
         List<Image> images = imageRepository.findAllByIdIn(boardSaveReqDto.imageId());
 
         // 이미지가 이미 매핑된 게시판이 있는지 체크하는 로직
-        checkForAlreadyMappedImages(images);
+        checkForAlreadyMappedImages(boardSaveReqDto.imageId());
 
         // 이미지의 총 개수를 체크하는 로직
         checkTotalImageCount(board, images);
 
+        BoardSnapshot before = BoardSnapshot.from(board);
         board.update(boardSaveReqDto, images);
+        boardSummaryService.update(board);
+        boardCounterService.move(before.category(), board.getCategory());
+        eventPublisher.publishEvent(BoardChangedEvent.updated(before, board));
 
         return BoardResDto.of(board);
     }
 
-    // 이미지가 이미 매핑된 게시판이 있는지 체크하는 로직
-    private void checkForAlreadyMappedImages(List<Image> images) {
-        for (Image image : images) {
-            Board existingBoard = boardRepository.findByImagesContaining(image);
+    // 이미지가 이미 매핑된 게시판이 있는지 체크하는 로직, image.board_id로 한 번에 확인
+    private void checkForAlreadyMappedImages(List<Long> imageIds) {
+        if (imageIds == null || imageIds.isEmpty()) {
+            return;
+        }
 
-            if (existingBoard != null) {
-                throw new MappedImageException(image);
-            }
+        List<Image> mappedImages = imageRepository.findAllByIdInAndBoardIdIsNotNull(imageIds);
+        if (!mappedImages.isEmpty()) {
+            throw new MappedImageException(mappedImages.get(0));
         }
     }
 
@@ -127,6 +216,7 @@ public class BoardService {
         return board.getImages().size();
     }
 
+    // 삭제 표시만 하고 바로 응답한다. 좋아요가 많은 게시물도 자식 행을 하나씩 지우지 않도록 정리는 BoardPurger에 맡긴다.
     @Transactional
     public void deleteBoard(Long boardId, Member member) {
         Board board = boardRepository.findById(boardId)
@@ -134,7 +224,10 @@ public class BoardService {
 
         checkBoardOwnership(board, member);
 
-        boardRepository.delete(board);
+        board.delete();
+        boardSummaryService.delete(boardId);
+        boardCounterService.decrease(board.getCategory());
+        eventPublisher.publishEvent(BoardChangedEvent.deleted(board));
     }
 
     // member가 board의 소유자가 아닐 경우 예외처리
@@ -144,24 +237,114 @@ public class BoardService {
         }
     }
 
-    public BoardListRspDto findByTitleContaining(String query, Pageable pageable) {
-        Page<BoardDto> boards = boardRepository.findByTitleContaining(query, pageable);
-        return BoardListRspDto.of(boards);
+    // 같은 검색어, 페이지 요청은 캐시에서 응답
+    public BoardListRspDto findByTitleContaining(String query, Pageable pageable, Member member) {
+        return withInteractions(boardSearchCache.get(query, pageable, () -> searchBoards(query, pageable)), member);
     }
 
-    // 상세 게시판
-    @Transactional
+    // 색인이 준비되면 BM25 순위로, 재구축 중에는 기존 제목 LIKE 검색으로 조회
+    // 초성이나 입력 중인 글자("ㅍㄹㅈㅌ", "프로ㅈ")가 섞였거나 BM25 결과가 없으면 제목 초성/자모 색인으로 다시 찾는다
+    private BoardListRspDto searchBoards(String query, Pageable pageable) {
+        if (!boardSearchEngine.isReady()) {
+            Page<BoardDto> boards = boardRepository.findByTitleContaining(query, pageable);
+            return BoardListRspDto.of(boards);
+        }
+
+        int offset = (int) pageable.getOffset();
+        BoardSearchResult result = Hangul.containsJamo(query)
+                ? boardSearchEngine.searchTitle(query, offset, pageable.getPageSize())
+                : boardSearchEngine.search(query, offset, pageable.getPageSize());
+        if (result.total() == 0 && !Hangul.containsJamo(query)) {
+            result = boardSearchEngine.searchTitle(query, offset, pageable.getPageSize());
+        }
+
+        List<BoardDto> boards = boardSummaryService.findBoardDtos(result.boardIds());
+
+        return BoardListRspDto.of(new PageImpl<>(boards, pageable, result.total()));
+    }
+
+    // 제목 자동완성, DB를 거치지 않으므로 트랜잭션(커넥션)도 잡지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BoardSuggestResDto suggestTitle(String query, int size) {
+        if (size < 1) {
+            throw new InvalidLimitException(size);
+        }
+        return BoardSuggestResDto.from(boardSuggester.suggest(query, size));
+    }
+
+    // 인기 게시물, 메모리에 있는 점수로만 응답한다. category가 비어 있으면 전체
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BoardTrendingResDto findTrending(String category, int limit) {
+        if (limit < 1) {
+            throw new InvalidLimitException(limit);
+        }
+        Category trendingCategory = category == null || category.isBlank() ? null : parseCategory(category);
+        return BoardTrendingResDto.from(boardTrendingEngine.trending(trendingCategory, limit));
+    }
+
+    private Category parseCategory(String category) {
+        try {
+            return Category.valueOf(category);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCategoryException(category);
+        }
+    }
+
+    // 인기 게시물 1위, 아직 점수가 없으면(서버 시작 직후) 전날 좋아요가 가장 많이 늘어난 게시물
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long findMostTrendingBoardId(Long fallbackBoardId) {
+        Long boardId = boardTrendingEngine.mostTrendingBoardId();
+        return boardId != null ? boardId : fallbackBoardId;
+    }
+
+    // 상세 게시판, 조회수는 ViewCountBuffer에 모았다가 따로 반영하므로 읽기 전용으로 처리
+    // 같은 회원이 24시간 안에 다시 본 경우(새로고침)는 조회수를 올리지 않는다
+    // 회원은 인증 필터에서 이미 읽었으므로 다시 조회하지 않는다
+    // 회원과 상관없는 부분은 BoardDetailCache에서 읽고, 좋아요/스크랩 여부는 BoardInteractionService 비트맵에서 덮어쓴다
     public BoardResDto getBoard(Member member, Long boardId) {
-        Member getMember = memberRepository.findById(member.getMemberId()).orElseThrow(MemberNotFoundException::new);
-        Board board = boardRepository.findById(boardId).orElseThrow(() -> new BoardNotFoundException(boardId));
-        board.updateViewCount();
+        return toBoardResDto(member, boardId, true);
+    }
+
+    // 인기 게시물 조회, 1위 게시물을 보여 주는 것만으로 조회수, 인기 점수가 올라 1위가 굳어지지 않도록 조회를 기록하지 않는다
+    public BoardResDto getTrendingBoard(Member member, Long boardId) {
+        return toBoardResDto(member, boardId, false);
+    }
 
-        boolean isHeart = memberHeartBoardRepository.existsByMemberAndBoard(getMember, board);
-        boolean isScrap = memberScrapBoardRepository.existsByMemberAndBoard(getMember, board);
+    private BoardResDto toBoardResDto(Member member, Long boardId, boolean recordView) {
+        BoardDetailCache.CachedBoardDetail cached = boardDetailCache.get(boardId, () -> loadDetail(boardId));
+        BoardDetail detail = cached.detail();
+        BoardViewerState viewerState = boardInteractionService.viewerState(member.getMemberId(), boardId);
 
-        int commentCount = commentRepository.countByBoardBoardId(boardId);
+        if (recordView && boardViewTracker.record(boardId, member.getMemberId())) {
+            viewCountBuffer.increase(boardId);
+            eventPublisher.publishEvent(new BoardActivityEvent(boardId, detail.category(), detail.title(),
+                    BoardActivityEvent.Activity.VIEW));
+        }
+        int count = (int) (detail.count() + viewCountBuffer.pendingOf(boardId));
+        long viewerCount = boardViewTracker.viewerCount(boardId);
+
+        return BoardResDto.from(detail, cached.imageUrls(), count, viewerCount, viewerState);
+    }
 
-        return BoardResDto.from(board, isHeart, isScrap, commentCount);
+    public String detailETag(Member member, Long boardId) {
+        return boardETags.detail(boardId, member.getMemberId());
+    }
+
+    // 304로 응답한 상세 조회도 조회수, 인기 점수에는 반영한다. 게시물을 읽지 않으므로 제목, 카테고리는 비워 둔다.
+    public void recordView(Member member, Long boardId) {
+        if (boardViewTracker.record(boardId, member.getMemberId())) {
+            viewCountBuffer.increase(boardId);
+            eventPublisher.publishEvent(new BoardActivityEvent(boardId, null, null, BoardActivityEvent.Activity.VIEW));
+        }
+    }
+
+    // 게시물, 작성자, 댓글 수 한 번 + 이미지 한 번
+    private BoardDetailCache.CachedBoardDetail loadDetail(Long boardId) {
+        BoardDetail detail = boardRepository.findDetail(boardId).orElseThrow(() -> new BoardNotFoundException(boardId));
+        List<String> imageUrls = boardRepository.findImageUrlsByBoardIdIn(List.of(boardId)).stream()
+                .map(BoardImageUrl::getImageUrl)
+                .toList();
+        return new BoardDetailCache.CachedBoardDetail(detail, imageUrls);
     }
 
     @Transactional
@@ -173,6 +356,7 @@ public class BoardService {
 
         addScrapMember.addScrapBoard(board);
         memberRepository.save(addScrapMember);
+        eventPublisher.publishEvent(new BoardInteractionChangedEvent(member.getMemberId(), board.getBoardId(), Interaction.SCRAP, true));
     }
 
     private void validateScrapNotExists(Member addScrapMember, Board board) {
@@ -190,6 +374,7 @@ public class BoardService {
 
         deleteScrapMember.cancelScrapBoard(board);
         memberRepository.save(deleteScrapMember);
+        eventPublisher.publishEvent(new BoardInteractionChangedEvent(member.getMemberId(), board.getBoardId(), Interaction.SCRAP, false));
     }
 
     private void validateScrapNotFound(Member deleteScrapMember, Board board) {
@@ -198,38 +383,51 @@ public class BoardService {
         }
     }
 
+    // 조회 후 저장 대신 insert ignore 한 번으로 처리해 연속 요청에도 좋아요가 중복되거나 수가 어긋나지 않는다
+    // 좋아요 수 증감은 HeartCounter가 게시물 상황에 따라 board 행 또는 분산 slot에 반영한다
     @Transactional
     public HeartSaveResDto heartBoard(HeartReqDto heartSaveReqDto, Member member) {
         Board board = boardRepository.findById(heartSaveReqDto.boardId())
                 .orElseThrow(() -> new BoardNotFoundException(heartSaveReqDto.boardId()));
 
-        validateHeartNotExists(member, heartSaveReqDto);
-
-        MemberHeartBoard memberHeartBoard = MemberHeartBoard.of(board, member);
+        if (memberHeartBoardRepository.insertIfAbsent(member.getMemberId(), board.getBoardId()) == 0) {
+            validateBoardNotPurged(board.getBoardId());
+            throw new AlreadyHeartException();
+        }
 
-        board.updateHeartCount();
-        memberHeartBoardRepository.save(memberHeartBoard);
+        heartCounter.increase(board.getBoardId(), member.getMemberId());
+        eventPublisher.publishEvent(new BoardCountChangedEvent(board.getBoardId()));
+        eventPublisher.publishEvent(BoardActivityEvent.of(board, BoardActivityEvent.Activity.HEART));
+        eventPublisher.publishEvent(new BoardInteractionChangedEvent(member.getMemberId(), board.getBoardId(), Interaction.HEART, true));
 
         fcmNotificationService.sendHeartBoardNotification(board, member);
 
-        return HeartSaveResDto.of(board);
+        return HeartSaveResDto.of(heartCounter.heartOf(board.getBoardId()));
     }
 
-    private void validateHeartNotExists(Member member, HeartReqDto heartSaveReqDto) {
-        if (memberHeartBoardRepository.findByMemberMemberIdAndBoardBoardId(member.getMemberId(), heartSaveReqDto.boardId()).isPresent()) {
-            throw new AlreadyHeartException();
+    // insert ignore는 외래 키 오류도 무시하므로, 위에서 읽은 뒤 게시물이 정리되어 무시된 경우를 중복과 구분한다
+    private void validateBoardNotPurged(Long boardId) {
+        if (boardRepository.findIdForUpdate(boardId).isEmpty()) {
+            throw new BoardNotFoundException(boardId);
         }
     }
 
+    // 실제로 지운 경우에만 좋아요 수를 줄인다
     @Transactional
     public HeartSaveResDto heartDelete(HeartReqDto heartDeleteReqDto, Member member) {
-        MemberHeartBoard memberHeartBoard = memberHeartBoardRepository.findByMemberMemberIdAndBoardBoardId(member.getMemberId(), heartDeleteReqDto.boardId())
-                .orElseThrow(HeartNotFoundException::new);
-        Board board = boardRepository.findById(heartDeleteReqDto.boardId())
-                .orElseThrow(() -> new BoardNotFoundException(heartDeleteReqDto.boardId()));
-
-        board.updateCancelHeartCount();
-        memberHeartBoardRepository.delete(memberHeartBoard);
-        return HeartSaveResDto.of(board);
+        Long boardId = heartDeleteReqDto.boardId();
+        if (!boardRepository.existsById(boardId)) {
+            throw new BoardNotFoundException(boardId);
+        }
+
+        if (memberHeartBoardRepository.deleteByMemberIdAndBoardId(member.getMemberId(), boardId) == 0) {
+            throw new HeartNotFoundException();
+        }
+
+        heartCounter.decrease(boardId, member.getMemberId());
+        eventPublisher.publishEvent(new BoardCountChangedEvent(boardId));
+        eventPublisher.publishEvent(BoardActivityEvent.unheart(boardId));
+        eventPublisher.publishEvent(new BoardInteractionChangedEvent(member.getMemberId(), boardId, Interaction.HEART, false));
+        return HeartSaveResDto.of(heartCounter.heartOf(boardId));
     }
 }
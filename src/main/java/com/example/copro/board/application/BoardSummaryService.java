@@ -0,0 +1,149 @@
+package com.example.copro.board.application;
+
+import com.example.copro.board.domain.Board;
+import com.example.copro.board.domain.BoardSummary;
+import com.example.copro.board.domain.repository.BoardCommentState;
+import com.example.copro.board.domain.repository.BoardRepository;
+import com.example.copro.board.domain.repository.BoardSummaryRepository;
+import com.example.copro.comment.domain.repository.BoardCommentCount;
+import com.example.copro.comment.domain.repository.CommentRepository;
+import com.example.copro.board.api.dto.response.BoardDto;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// board_summary 읽기 모델 갱신 담당. 호출한 쪽의 트랜잭션에 함께 묶인다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BoardSummaryService {
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private final BoardSummaryRepository boardSummaryRepository;
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public void create(Board board) {
+        boardSummaryRepository.save(BoardSummary.of(board, 0));
+    }
+
+    public void update(Board board) {
+        boardSummaryRepository.findById(board.getBoardId())
+                .ifPresentOrElse(summary -> summary.update(board),
+                        () -> boardSummaryRepository.save(BoardSummary.of(board, commentRepository.countByBoardBoardId(board.getBoardId()))));
+    }
+
+    public void delete(Long boardId) {
+        if (boardSummaryRepository.existsById(boardId)) {
+            boardSummaryRepository.deleteById(boardId);
+        }
+    }
+
+    public void increaseHeart(Long boardId) {
+        boardSummaryRepository.increaseHeart(boardId);
+    }
+
+    public void decreaseHeart(Long boardId) {
+        boardSummaryRepository.decreaseHeart(boardId);
+    }
+
+    // 댓글 수와 댓글 목록 버전을 함께 올린다
+    public void increaseCommentCount(Long boardId) {
+        boardSummaryRepository.increaseCommentCount(boardId);
+    }
+
+    // 같은 트랜잭션에서 올린 값을 읽는다. 요약이 아직 없는 게시물(백필 전)은 댓글 수만 직접 세고 버전은 0이다
+    public BoardCommentState commentStateOf(Long boardId) {
+        return boardSummaryRepository.findCommentStateByBoardId(boardId)
+                .orElseGet(() -> new UnsummarizedCommentState(commentRepository.countByBoardBoardId(boardId)));
+    }
+
+    // 댓글 삭제는 자손까지 함께 지워질 수 있어 다시 센다
+    public void refreshCommentCount(Long boardId) {
+        boardSummaryRepository.updateCommentCount(boardId, commentRepository.countByBoardBoardId(boardId));
+    }
+
+    // 댓글 수는 그대로인 변경(수정, 답글이 있는 댓글의 삭제 표시)
+    public void increaseCommentVersion(Long boardId) {
+        boardSummaryRepository.increaseCommentVersion(boardId);
+    }
+
+    // 작성자 닉네임, 직군은 그 회원의 댓글마다 보인다
+    public void increaseCommentVersionByWriter(Long memberId) {
+        boardSummaryRepository.increaseCommentVersionByWriterId(memberId);
+    }
+
+    // 댓글 목록 버전(ETag, 등록 응답의 threadVersion), 요약이 아직 없는 게시물은 0
+    @Transactional(readOnly = true)
+    public long commentVersionOf(Long boardId) {
+        return boardSummaryRepository.findCommentVersionByBoardId(boardId).orElse(0L);
+    }
+
+    public void updateNickName(Long memberId, String nickName) {
+        boardSummaryRepository.updateNickName(memberId, nickName);
+    }
+
+    // 검색 결과처럼 순서가 정해진 id 목록을 그 순서 그대로 BoardDto로 변환한다
+    @Transactional(readOnly = true)
+    public List<BoardDto> findBoardDtos(List<Long> boardIds) {
+        Map<Long, BoardSummary> summaries = boardSummaryRepository.findAllById(boardIds).stream()
+                .collect(Collectors.toMap(BoardSummary::getBoardId, Function.identity()));
+
+        return boardIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .map(BoardDto::from)
+                .toList();
+    }
+
+    // 읽기 모델 도입 이전에 작성된 게시물 채우기
+    // 묶음마다 따로 커밋해 영속성 컨텍스트가 계속 커지지 않게 하고, 묶음당 게시물(작성자, 이미지 fetch join) 한 번 + 댓글 수 한 번만 조회한다
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfill() {
+        List<Long> boardIds = boardSummaryRepository.findBoardIdsWithoutSummary();
+
+        for (int from = 0; from < boardIds.size(); from += BACKFILL_CHUNK_SIZE) {
+            List<Long> chunk = boardIds.subList(from, Math.min(from + BACKFILL_CHUNK_SIZE, boardIds.size()));
+            transactionTemplate.executeWithoutResult(status -> backfill(chunk));
+        }
+
+        if (!boardIds.isEmpty()) {
+            log.info("board_summary backfill 완료: {}건", boardIds.size());
+        }
+    }
+
+    private void backfill(List<Long> boardIds) {
+        Map<Long, Long> commentCounts = commentRepository.countByBoardIdIn(boardIds).stream()
+                .collect(Collectors.toMap(BoardCommentCount::getBoardId, BoardCommentCount::getCommentCount));
+
+        List<BoardSummary> summaries = boardRepository.findAllWithMemberAndImagesByIdIn(boardIds).stream()
+                .map(board -> BoardSummary.of(board, commentCounts.getOrDefault(board.getBoardId(), 0L).intValue()))
+                .toList();
+        boardSummaryRepository.saveAll(summaries);
+    }
+
+    private record UnsummarizedCommentState(int commentCount) implements BoardCommentState {
+        @Override
+        public int getCommentCount() {
+            return commentCount;
+        }
+
+        @Override
+        public long getCommentVersion() {
+            return 0;
+        }
+    }
+}
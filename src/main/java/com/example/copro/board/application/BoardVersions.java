@@ -0,0 +1,136 @@
+package com.example.copro.board.application;
+
+import com.example.copro.board.application.event.BoardChangedEvent;
+import com.example.copro.board.application.event.BoardCountChangedEvent;
+import com.example.copro.board.application.event.BoardImagesChangedEvent;
+import com.example.copro.board.application.event.BoardInteractionChangedEvent;
+import com.example.copro.board.application.event.BoardSnapshot;
+import com.example.copro.board.domain.Category;
+import com.example.copro.board.domain.repository.BoardRepository;
+import com.example.copro.member.application.event.MemberProfileChangedEvent;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시물 상세, 카테고리 목록, 회원별 좋아요/스크랩 버전(이 서버 기준). 댓글 목록 버전은 board_summary.comment_version에 둔다.
+ * 화면에 보이는 값이 바뀌는 커밋마다 올린다.
+ * 캐시 키와 ETag에 버전을 넣어 두면 바뀐 항목은 새 키로 조회되므로 따로 지우지 않아도 된다. 바뀐 적 없는 항목은 0이다.
+ * 게시물, 회원별 버전은 MAX_TRACKED개가 차면 비우고, 비운 항목은 그때까지의 가장 큰 버전으로 본다(줄어들지 않는다).
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardVersions {
+    static final int MAX_TRACKED = 100_000;
+
+    private final BoardRepository boardRepository;
+    private final VersionMap versions = new VersionMap();
+    private final VersionMap memberVersions = new VersionMap();
+    private final Map<Category, AtomicLong> listVersions = newListVersions();
+
+    // 게시물 상세(내용, 이미지, 작성자, 조회수, 좋아요 수, 댓글 수)
+    public long current(Long boardId) {
+        return versions.get(boardId);
+    }
+
+    public long list(Category category) {
+        return listVersions.get(category).get();
+    }
+
+    // 회원의 좋아요/스크랩 목록, 비회원은 항상 0
+    public long member(Long memberId) {
+        return memberId == null ? 0 : memberVersions.get(memberId);
+    }
+
+    public void bump(Long boardId) {
+        versions.bump(boardId);
+    }
+
+    public void bumpAll(Collection<Long> boardIds) {
+        boardIds.forEach(this::bump);
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        bump(event.boardId());
+        bumpList(event.before());
+        bumpList(event.after());
+    }
+
+    // 수치가 바뀐 게시물의 카테고리는 알 수 없어 모든 목록 버전을 올린다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardCountChanged(BoardCountChangedEvent event) {
+        bump(event.boardId());
+        bumpLists();
+    }
+
+    @TransactionalEventListener
+    public void onBoardImagesChanged(BoardImagesChangedEvent event) {
+        bump(event.boardId());
+        bumpLists();
+    }
+
+    @TransactionalEventListener
+    public void onInteractionChanged(BoardInteractionChangedEvent event) {
+        memberVersions.bump(event.memberId());
+    }
+
+    // 작성자 정보는 그 회원의 게시물 상세, 목록에 보인다(댓글 목록 버전은 프로필 수정 트랜잭션에서 올린다)
+    @TransactionalEventListener
+    public void onMemberProfileChanged(MemberProfileChangedEvent event) {
+        bumpAll(boardRepository.findBoardIdsByMemberId(event.memberId()));
+        bumpLists();
+    }
+
+    private void bumpList(BoardSnapshot board) {
+        if (board != null) {
+            listVersions.get(board.category()).incrementAndGet();
+        }
+    }
+
+    private void bumpLists() {
+        listVersions.values().forEach(AtomicLong::incrementAndGet);
+    }
+
+    private static Map<Category, AtomicLong> newListVersions() {
+        Map<Category, AtomicLong> lists = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            lists.put(category, new AtomicLong());
+        }
+        return lists;
+    }
+
+    /**
+     * id별 버전. 올릴 때마다 맵 안에서 하나씩 늘어나는 순번을 버전으로 쓴다.
+     * 가득 차면 floor를 지금까지 준 가장 큰 순번으로 올린 뒤 비우고, 없는 id는 floor를 돌려준다.
+     * 비운 id의 버전은 그대로이거나 커지고, 이후에 올린 버전은 floor보다 크다.
+     */
+    static class VersionMap {
+        private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+        private volatile long floor;
+        private long sequence;
+
+        // 맵을 먼저 읽어야 비우는 중에도 floor보다 작은 값을 돌려주지 않는다
+        long get(Long id) {
+            Long version = versions.get(id);
+            return version == null ? floor : version;
+        }
+
+        synchronized void bump(Long id) {
+            if (versions.size() >= MAX_TRACKED && !versions.containsKey(id)) {
+                floor = sequence;
+                versions.clear();
+            }
+            versions.put(id, ++sequence);
+        }
+
+        int size() {
+            return versions.size();
+        }
+    }
+}
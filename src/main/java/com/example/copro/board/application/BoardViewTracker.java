@@ -0,0 +1,136 @@
+package com.example.copro.board.application;
+
+import com.example.copro.board.domain.BoardViewerSketch;
+import com.example.copro.board.domain.repository.BoardViewerSketchRepository;
+import com.example.copro.global.util.HyperLogLog;
+import com.example.copro.global.util.RotatingBloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상세 조회 중복 제거와 순 조회자 집계.
+ * 같은 회원이 24시간 안에 다시 본 조회는 RotatingBloomFilter로 걸러 조회수를 올리지 않는다(서버 재시작 시 초기화).
+ * 순 조회자는 게시물별 HyperLogLog에 모았다가 주기적으로 board_viewer_sketch에 합쳐 저장한다.
+ * 저장할 때는 행을 잠그고 읽으므로 여러 서버가 동시에 저장해도 서로의 레지스터를 덮어쓰지 않는다.
+ * 상세 응답의 순 조회자 수는 저장할 때 합친 추정값을 메모리에 두고 쓰므로 최대 한 주기(1분) 늦게 보인다.
+ *
+ * 추정값 캐시의 hit, miss는 cache.gets{cache=board.viewers} 지표로 확인한다.
+ */
+@Slf4j
+@Component
+public class BoardViewTracker {
+    private static final String CACHE_NAME = "board.viewers";
+    private static final int MAXIMUM_SIZE = 50_000;
+    private static final Duration IDLE_TTL = Duration.ofMinutes(30);
+    private static final int EXPECTED_VIEWS_PER_HOUR = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int GENERATIONS = 24;
+    private static final Duration DEDUP_WINDOW = Duration.ofHours(24);
+
+    private final BoardViewerSketchRepository boardViewerSketchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final RotatingBloomFilter recentViews =
+            new RotatingBloomFilter(EXPECTED_VIEWS_PER_HOUR, FALSE_POSITIVE_RATE, GENERATIONS, DEDUP_WINDOW);
+    private final Map<Long, HyperLogLog> pendingSketches = new ConcurrentHashMap<>();
+    // 직전 주기에 비운 sketch. 비우기 직전에 sketch를 받아 간 조회가 뒤늦게 더할 수 있어 한 주기 더 지켜본다.
+    private Map<Long, RetiredSketch> retired = Map.of();
+    // 게시물별 저장된 순 조회자 추정값. 처음 한 번만 DB에서 읽고 이후에는 flush에서 갱신한다.
+    private final Cache<Long, Long> viewerCounts = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterAccess(IDLE_TTL)
+            .recordStats()
+            .build();
+
+    public BoardViewTracker(BoardViewerSketchRepository boardViewerSketchRepository,
+                            TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.boardViewerSketchRepository = boardViewerSketchRepository;
+        this.transactionTemplate = transactionTemplate;
+        CaffeineCacheMetrics.monitor(meterRegistry, viewerCounts, CACHE_NAME);
+    }
+
+    // 조회수를 올려야 하는 조회(24시간 안에 처음 본 회원)면 true
+    public boolean record(Long boardId, Long memberId) {
+        pendingSketches.computeIfAbsent(boardId, id -> new HyperLogLog()).offer(memberId);
+        return recentViews.putIfAbsent(HyperLogLog.mix(boardId) ^ memberId);
+    }
+
+    // 마지막으로 저장한 순 조회자 수. 아직 저장 전인 조회자는 다음 flush 후에 반영된다.
+    public long viewerCount(Long boardId) {
+        return viewerCounts.get(boardId, id -> boardViewerSketchRepository.findById(id)
+                .map(BoardViewerSketch::getViewerCount)
+                .orElse(0L));
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public synchronized void flush() {
+        Map<Long, HyperLogLog> sketches = new HashMap<>();
+        // 같은 조회자를 다시 합쳐도 값이 그대로이므로 뒤늦게 바뀐 sketch는 통째로 한 번 더 합친다
+        retired.forEach((boardId, retiredSketch) -> {
+            if (retiredSketch.hasLateViews()) {
+                sketches.computeIfAbsent(boardId, id -> new HyperLogLog()).merge(retiredSketch.sketch());
+            }
+        });
+
+        Map<Long, RetiredSketch> retiring = new HashMap<>();
+        for (Long boardId : new ArrayList<>(pendingSketches.keySet())) {
+            HyperLogLog sketch = pendingSketches.remove(boardId);
+            if (sketch != null) {
+                retiring.put(boardId, RetiredSketch.of(sketch));
+                sketches.computeIfAbsent(boardId, id -> new HyperLogLog()).merge(sketch);
+            }
+        }
+        retired = retiring;
+
+        if (sketches.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<Long, BoardViewerSketch> saved = transactionTemplate.execute(status -> {
+                Map<Long, BoardViewerSketch> stored = new HashMap<>();
+                boardViewerSketchRepository.findAllByIdInForUpdate(sketches.keySet())
+                        .forEach(sketch -> stored.put(sketch.getBoardId(), sketch));
+
+                sketches.forEach((boardId, sketch) -> stored.computeIfAbsent(boardId, BoardViewerSketch::of).merge(sketch));
+                boardViewerSketchRepository.saveAll(stored.values());
+                return stored;
+            });
+            // 다른 서버가 저장한 조회자까지 합친 값이므로 그대로 응답에 쓴다
+            saved.forEach((boardId, sketch) -> viewerCounts.put(boardId, sketch.getViewerCount()));
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 합치도록 되돌려 놓는다. 두 서버가 같은 새 행을 동시에 넣어 키가 겹친 경우도 여기서 다시 시도된다
+            sketches.forEach((boardId, sketch) -> pendingSketches.computeIfAbsent(boardId, id -> new HyperLogLog()).merge(sketch));
+            log.error("순 조회자 sketch 저장 실패: {}건", sketches.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 비울 때의 레지스터를 함께 두어 그 뒤에 더해진 조회가 있는지 비교한다
+    private record RetiredSketch(HyperLogLog sketch, byte[] flushedRegisters) {
+        static RetiredSketch of(HyperLogLog sketch) {
+            return new RetiredSketch(sketch, sketch.toByteArray());
+        }
+
+        boolean hasLateViews() {
+            return !Arrays.equals(sketch.toByteArray(), flushedRegisters);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.copro.board.application;
+
+// 상세 조회한 회원의 좋아요, 스크랩 여부
+public record BoardViewerState(
+        boolean isHeart,
+        boolean isScrap
+) {
+}
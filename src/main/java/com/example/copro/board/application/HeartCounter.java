@@ -0,0 +1,172 @@
+package com.example.copro.board.application;
+
+import com.example.copro.board.application.event.BoardCountChangedEvent;
+import com.example.copro.board.domain.repository.BoardHeartShardRepository;
+import com.example.copro.board.domain.repository.BoardRepository;
+import com.example.copro.global.util.HyperLogLog;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시물 좋아요 수 증감. 평소에는 board, board_summary 행을 바로 고치고,
+ * 짧은 시간에 좋아요가 몰린 게시물은 한 행에 쓰기가 줄 서지 않도록 회원 id 해시로 고른 board_heart_shard slot에 나눠 쓴다.
+ * slot에 쌓인 값은 몇 초마다 board.heart, board_summary.heart로 옮기므로 좋아요 수는 항상 board.heart + slot 합이다.
+ * 한동안 조용해진 게시물은 다시 행을 바로 고치는 방식으로 돌아간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeartCounter {
+    private static final int SLOT_COUNT = 16;
+    // HOT_WINDOW_MILLIS 안에 HOT_THRESHOLD번 넘게 누르면 분산 모드로 바꾼다
+    private static final long HOT_WINDOW_MILLIS = 10_000;
+    private static final int HOT_THRESHOLD = 20;
+    private static final long COOL_DOWN_MILLIS = 10 * 60_000;
+
+    private static final String UPSERT_SHARD = """
+            insert into board_heart_shard (board_id, slot, delta) values (?, ?, ?)
+            on duplicate key update delta = delta + values(delta)
+            """;
+    private static final String SELECT_SHARDS = """
+            select board_id, slot, delta from board_heart_shard where delta <> 0 order by board_id, slot
+            """;
+    // 읽은 값만큼만 빼므로 그 사이 더해진 값은 slot에 남아 다음 주기에 옮겨진다
+    private static final String SUBTRACT_SHARD = "update board_heart_shard set delta = delta - ? where board_id = ? and slot = ?";
+    private static final String ADD_BOARD = "update board set heart = heart + ? where board_id = ?";
+    private static final String ADD_BOARD_SUMMARY = "update board_summary set heart = heart + ? where board_id = ?";
+    private static final String DELETE_EMPTY_SHARDS = "delete from board_heart_shard where board_id = ? and delta = 0";
+
+    private final BoardRepository boardRepository;
+    private final BoardSummaryService boardSummaryService;
+    private final BoardHeartShardRepository boardHeartShardRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, HeartRate> rates = new ConcurrentHashMap<>();
+    // 분산 모드인 게시물 -> 마지막으로 몰린 시각
+    private final Map<Long, Long> hotBoards = new ConcurrentHashMap<>();
+
+    // 호출하는 쪽 트랜잭션 안에서 실행한다
+    public void increase(Long boardId, Long memberId) {
+        add(boardId, memberId, 1);
+    }
+
+    public void decrease(Long boardId, Long memberId) {
+        add(boardId, memberId, -1);
+    }
+
+    // 아직 옮겨지지 않은 slot 값까지 더한 좋아요 수
+    public int heartOf(Long boardId) {
+        return (int) (boardRepository.findHeartByBoardId(boardId) + boardHeartShardRepository.sumDeltaByBoardId(boardId));
+    }
+
+    public boolean isHot(Long boardId) {
+        return hotBoards.containsKey(boardId);
+    }
+
+    private void add(Long boardId, Long memberId, int delta) {
+        long now = System.currentTimeMillis();
+        if (rates.computeIfAbsent(boardId, id -> new HeartRate()).hit(now) > HOT_THRESHOLD) {
+            if (hotBoards.put(boardId, now) == null) {
+                log.info("게시물 {} 좋아요 분산 카운터로 전환", boardId);
+            }
+        }
+
+        if (isHot(boardId)) {
+            jdbcTemplate.update(UPSERT_SHARD, boardId, slotOf(memberId), delta);
+            return;
+        }
+
+        if (delta > 0) {
+            boardRepository.increaseHeart(boardId);
+            boardSummaryService.increaseHeart(boardId);
+        } else {
+            boardRepository.decreaseHeart(boardId);
+            boardSummaryService.decreaseHeart(boardId);
+        }
+    }
+
+    private int slotOf(Long memberId) {
+        return (int) Math.floorMod(HyperLogLog.mix(memberId), (long) SLOT_COUNT);
+    }
+
+    @Scheduled(fixedDelay = 5_000)
+    public void fold() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Object[]> shards = jdbcTemplate.query(SELECT_SHARDS,
+                        (rs, rowNum) -> new Object[]{rs.getLong("delta"), rs.getLong("board_id"), rs.getInt("slot")});
+                if (shards.isEmpty()) {
+                    return;
+                }
+
+                Map<Long, Long> totals = new LinkedHashMap<>();
+                shards.forEach(shard -> totals.merge((Long) shard[1], (Long) shard[0], Long::sum));
+                List<Object[]> increments = new ArrayList<>(totals.size());
+                totals.forEach((boardId, delta) -> increments.add(new Object[]{delta, boardId}));
+
+                jdbcTemplate.batchUpdate(SUBTRACT_SHARD, shards);
+                jdbcTemplate.batchUpdate(ADD_BOARD, increments);
+                jdbcTemplate.batchUpdate(ADD_BOARD_SUMMARY, increments);
+                totals.keySet().forEach(boardId -> eventPublisher.publishEvent(new BoardCountChangedEvent(boardId)));
+            });
+        } catch (RuntimeException e) {
+            log.error("좋아요 분산 카운터 반영 실패", e);
+            return;
+        }
+
+        coolDown();
+    }
+
+    // 한동안 몰리지 않은 게시물은 빈 slot을 지우고 행을 바로 고치는 방식으로 되돌린다
+    private void coolDown() {
+        long now = System.currentTimeMillis();
+        rates.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+
+        List<Object[]> cooled = new ArrayList<>();
+        hotBoards.forEach((boardId, lastHot) -> {
+            if (now - lastHot > COOL_DOWN_MILLIS && hotBoards.remove(boardId, lastHot)) {
+                cooled.add(new Object[]{boardId});
+            }
+        });
+        if (cooled.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(DELETE_EMPTY_SHARDS, cooled);
+        } catch (RuntimeException e) {
+            // 빈 slot은 합계에 영향이 없으니 남겨 둬도 된다
+            log.warn("빈 좋아요 slot 정리 실패: {}건", cooled.size(), e);
+        }
+    }
+
+    // 고정 구간 안의 좋아요 변경 횟수
+    private static class HeartRate {
+        private long windowStart;
+        private int count;
+
+        synchronized int hit(long now) {
+            if (now - windowStart >= HOT_WINDOW_MILLIS) {
+                windowStart = now;
+                count = 0;
+            }
+            return ++count;
+        }
+
+        synchronized boolean isIdle(long now) {
+            return now - windowStart >= HOT_WINDOW_MILLIS;
+        }
+    }
+}
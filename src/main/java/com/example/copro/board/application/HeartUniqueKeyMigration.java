@@ -0,0 +1,58 @@
+package com.example.copro.board.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * member_heart_board (member_id, board_id) unique 키 적용 전 데이터 정리.
+ * 중복 좋아요가 남아 있으면 hibernate가 제약을 추가하지 못하므로, 중복을 지우고 좋아요 수를 다시 센 뒤 unique 인덱스를 만든다.
+ * 이미 정리된 DB에서는 아무것도 바꾸지 않는다. (MariaDB 문법)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeartUniqueKeyMigration {
+    private static final String DELETE_DUPLICATES = """
+            delete h1 from member_heart_board h1
+            join member_heart_board h2
+              on h1.member_id = h2.member_id and h1.board_id = h2.board_id and h1.id > h2.id
+            """;
+    private static final String RECOUNT_BOARD = """
+            update board b set b.heart = (select count(*) from member_heart_board h where h.board_id = b.board_id)
+            """;
+    private static final String RECOUNT_BOARD_SUMMARY = """
+            update board_summary s set s.heart = (select count(*) from member_heart_board h where h.board_id = s.board_id)
+            """;
+    private static final String CREATE_UNIQUE_INDEX = """
+            create unique index if not exists uk_member_heart_board_member_board on member_heart_board (member_id, board_id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            Integer deleted = transactionTemplate.execute(status -> {
+                int duplicates = jdbcTemplate.update(DELETE_DUPLICATES);
+                if (duplicates > 0) {
+                    jdbcTemplate.update(RECOUNT_BOARD);
+                    jdbcTemplate.update(RECOUNT_BOARD_SUMMARY);
+                }
+                return duplicates;
+            });
+            jdbcTemplate.execute(CREATE_UNIQUE_INDEX);
+
+            if (deleted != null && deleted > 0) {
+                log.info("중복 좋아요 {}건 정리 후 좋아요 수 재계산", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.error("좋아요 unique 키 적용 실패", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.copro.board.application;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Board.images를 조인 테이블(board_images)에서 image.board_id 컬럼으로 옮긴 뒤의 데이터 이전.
+ * 조인 테이블에 남아 있는 매핑을 board_id가 비어 있는 이미지에만 복사하므로 여러 번 실행해도 결과가 같다.
+ * 복사한 매핑은 같은 트랜잭션에서 지운다. board_images가 image, board를 외래 키로 잡고 있어
+ * 남겨 두면 이미지 삭제와 삭제 게시물 정리가 실패한다. 빈 board_images 테이블은 직접 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageBoardColumnMigration {
+    private static final String JOIN_TABLE = "board_images";
+    private static final String COPY_MAPPINGS = """
+            update image
+            set board_id = (select bi.board_board_id from board_images bi where bi.images_image_id = image.image_id)
+            where board_id is null
+              and exists (select 1 from board_images bi where bi.images_image_id = image.image_id)
+            """;
+    private static final String DELETE_COPIED_MAPPINGS = """
+            delete from board_images
+            where exists (select 1 from image i
+                          where i.image_id = board_images.images_image_id and i.board_id = board_images.board_board_id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void migrate() {
+        try {
+            if (!Boolean.TRUE.equals(jdbcTemplate.execute(this::joinTableExists))) {
+                return;
+            }
+
+            int copied = jdbcTemplate.update(COPY_MAPPINGS);
+            int deleted = jdbcTemplate.update(DELETE_COPIED_MAPPINGS);
+            if (copied > 0 || deleted > 0) {
+                log.info("board_images 매핑 {}건을 image.board_id로 이전, 이전된 매핑 {}건 삭제", copied, deleted);
+            }
+        } catch (RuntimeException e) {
+            log.error("이미지 게시물 매핑 이전 실패", e);
+        }
+    }
+
+    // 현재 DB(스키마)에 조인 테이블이 남아 있는지
+    private boolean joinTableExists(Connection connection) throws SQLException {
+        try (ResultSet tables = connection.getMetaData()
+                .getTables(connection.getCatalog(), connection.getSchema(), JOIN_TABLE, new String[]{"TABLE"})) {
+            return tables.next();
+        }
+    }
+}
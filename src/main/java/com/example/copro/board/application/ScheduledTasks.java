@@ -1,49 +1,94 @@
 package com.example.copro.board.application;
 
 import com.example.copro.board.domain.Board;
+import com.example.copro.board.domain.PopularBoard;
 import com.example.copro.board.domain.repository.BoardRepository;
+import com.example.copro.board.domain.repository.PopularBoardRepository;
+import com.example.copro.global.lock.application.JobLockService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
 
+@Slf4j
 @Service
 public class ScheduledTasks {
+    private static final String MOST_INCREASED_HEART_JOB = "most-increased-heart-board";
+    // 작업 중 서버가 죽어도 이 시간이 지나면 다른 서버가 실행할 수 있다
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(30);
+    // 서버 간 시계 차이로 같은 자정 작업이 두 번 실행되지 않도록 최소 이만큼은 잠가 둔다
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(5);
+    // 저장된 인기 게시물을 다시 읽는 주기
+    private static final Duration CACHE_TTL = Duration.ofMinutes(1);
+
     private final BoardRepository boardRepository;
+    private final PopularBoardRepository popularBoardRepository;
+    private final JobLockService jobLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer snapshotTimer;
+    private final AtomicLong snapshotRows;
+
+    private volatile Long mostIncreasedHeartBoardId;
+    private volatile long mostIncreasedHeartLoadedAt;
 
-    public ScheduledTasks(BoardRepository boardRepository) {
+    public ScheduledTasks(BoardRepository boardRepository, PopularBoardRepository popularBoardRepository,
+                          JobLockService jobLockService, TransactionTemplate transactionTemplate,
+                          MeterRegistry meterRegistry) {
         this.boardRepository = boardRepository;
+        this.popularBoardRepository = popularBoardRepository;
+        this.jobLockService = jobLockService;
+        this.transactionTemplate = transactionTemplate;
+        this.snapshotTimer = meterRegistry.timer("board.heart.snapshot.duration");
+        this.snapshotRows = meterRegistry.gauge("board.heart.snapshot.rows", new AtomicLong());
     }
 
-    private static Long mostIncreasedHeartBoardId;
-
-    @Transactional
+    // 여러 서버 중 잠금을 잡은 한 곳에서만 실행한다
     @Scheduled(cron = "0 0 0 * * *")
     //@Scheduled(cron = "*/5 * * * * *") // 매 1초마다 실행
     public void findMostIncreasedHeartBoard() {
+        jobLockService.runLocked(MOST_INCREASED_HEART_JOB, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+                () -> cache(transactionTemplate.execute(status -> updateMostIncreasedHeartBoard())));
+    }
+
+    private Long updateMostIncreasedHeartBoard() {
         List<Board> results = boardRepository.findWithMaxIncreaseInHeart();
         if (results.isEmpty()) {
             throw new NoSuchElementException("게시물이 없습니다.");
-        } else {
-            Board mostIncreasedHeartBoard = results.get(0);
-            mostIncreasedHeartBoardId = mostIncreasedHeartBoard.getBoardId();
         }
+        Board mostIncreasedHeartBoard = results.get(0);
+        popularBoardRepository.save(PopularBoard.of(PopularBoard.MOST_INCREASED_HEART, mostIncreasedHeartBoard.getBoardId()));
 
         // 이전 좋아요 수 갱신
         updatePreviousHeartCounts();
+        return mostIncreasedHeartBoard.getBoardId();
     }
 
+    // 전체 게시물을 읽어 하나씩 저장하지 않고 update 한 번으로 처리한다
     private void updatePreviousHeartCounts() {
-        List<Board> allBoards = boardRepository.findAll();
-        for (Board board : allBoards) {
-            board.setPreviousHeartCount(board.getHeart());
-        }
-        boardRepository.saveAll(allBoards);
+        int rows = snapshotTimer.record(boardRepository::snapshotPreviousHeartCounts);
+        snapshotRows.set(rows);
+        log.info("이전 좋아요 수 갱신: {}건", rows);
     }
 
+    // 다른 서버가 계산한 값도 CACHE_TTL 안에 반영된다
     public Long getMostIncreasedHeartsPostId() {
+        if (System.currentTimeMillis() - mostIncreasedHeartLoadedAt > CACHE_TTL.toMillis()) {
+            cache(popularBoardRepository.findById(PopularBoard.MOST_INCREASED_HEART)
+                    .map(PopularBoard::getBoardId)
+                    .orElse(null));
+        }
         return mostIncreasedHeartBoardId;
     }
-}
\ No newline at end of file
+
+    private void cache(Long boardId) {
+        mostIncreasedHeartBoardId = boardId;
+        mostIncreasedHeartLoadedAt = System.currentTimeMillis();
+    }
+}
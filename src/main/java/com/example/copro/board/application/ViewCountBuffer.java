@@ -0,0 +1,96 @@
+package com.example.copro.board.application;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시물 조회수를 메모리에 모았다가 몇 초마다 한 번에 반영한다.
+ * 상세 조회가 board 행을 잠그지 않도록 게시물마다 LongAdder로 더하고,
+ * board, board_summary에 "count = count + ?" batch update로 쓴다. 종료 시에도 남은 값을 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+    private static final String UPDATE_BOARD = "update board set count = count + ? where board_id = ?";
+    private static final String UPDATE_BOARD_SUMMARY = "update board_summary set count = count + ? where board_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardVersions boardVersions;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 직전 주기에 비운 adder. 비우기 직전에 adder를 받아 간 조회가 뒤늦게 더할 수 있어 한 주기 더 모은다.
+    private Map<Long, LongAdder> retired = Map.of();
+
+    public void increase(Long boardId) {
+        pending.computeIfAbsent(boardId, id -> new LongAdder()).increment();
+    }
+
+    // 아직 반영되지 않은 조회수, 상세 응답에 더해서 보여준다
+    public long pendingOf(Long boardId) {
+        LongAdder adder = pending.get(boardId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelay = 3_000)
+    public synchronized void flush() {
+        List<Object[]> increments = new ArrayList<>();
+        Map<Long, LongAdder> evicted = new HashMap<>();
+        retired.forEach((boardId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                increments.add(new Object[]{delta, boardId});
+            }
+        });
+        pending.forEach((boardId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                increments.add(new Object[]{delta, boardId});
+                return;
+            }
+            // 한동안 조회가 없던 게시물은 비운다. 확인과 제거를 한 번에 해서 그 사이 더해진 adder는 남긴다.
+            pending.computeIfPresent(boardId, (id, current) -> {
+                if (current != adder || current.sum() != 0) {
+                    return current;
+                }
+                evicted.put(id, current);
+                return null;
+            });
+        });
+        retired = evicted;
+
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPDATE_BOARD, increments);
+                jdbcTemplate.batchUpdate(UPDATE_BOARD_SUMMARY, increments);
+            });
+            // 반영된 조회수가 상세 캐시에 보이도록 버전을 올린다
+            increments.forEach(increment -> boardVersions.bump((Long) increment[1]));
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도하도록 되돌려 놓는다
+            increments.forEach(increment -> pending.computeIfAbsent((Long) increment[1], id -> new LongAdder())
+                    .add((Long) increment[0]));
+            log.error("조회수 반영 실패: {}건", increments.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.copro.board.application.event;
+
+import com.example.copro.board.domain.Board;
+import com.example.copro.board.domain.Category;
+
+// 인기 게시물 점수용 활동 이벤트(좋아요, 좋아요 취소, 댓글, 조회). 좋아요 취소는 게시물을 읽지 않으므로 제목, 카테고리가 없다.
+public record BoardActivityEvent(
+        Long boardId,
+        Category category,
+        String title,
+        Activity activity
+) {
+    public enum Activity {
+        HEART(3), UNHEART(-3), COMMENT(2), VIEW(1);
+
+        private final int weight;
+
+        Activity(int weight) {
+            this.weight = weight;
+        }
+
+        public int weight() {
+            return weight;
+        }
+    }
+
+    public static BoardActivityEvent of(Board board, Activity activity) {
+        return new BoardActivityEvent(board.getBoardId(), board.getCategory(), board.getTitle(), activity);
+    }
+
+    public static BoardActivityEvent unheart(Long boardId) {
+        return new BoardActivityEvent(boardId, null, null, Activity.UNHEART);
+    }
+}
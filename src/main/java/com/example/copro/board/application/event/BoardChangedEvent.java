@@ -0,0 +1,30 @@
+package com.example.copro.board.application.event;
+
+import com.example.copro.board.domain.Board;
+
+// 게시물 등록, 수정, 삭제 이벤트. 수정은 변경 전(before)과 후(after) 값을 모두 담는다.
+public record BoardChangedEvent(
+        ChangeType type,
+        BoardSnapshot before,
+        BoardSnapshot after
+) {
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static BoardChangedEvent created(Board board) {
+        return new BoardChangedEvent(ChangeType.CREATED, null, BoardSnapshot.from(board));
+    }
+
+    public static BoardChangedEvent updated(BoardSnapshot before, Board board) {
+        return new BoardChangedEvent(ChangeType.UPDATED, before, BoardSnapshot.from(board));
+    }
+
+    public static BoardChangedEvent deleted(Board board) {
+        return new BoardChangedEvent(ChangeType.DELETED, BoardSnapshot.from(board), null);
+    }
+
+    public Long boardId() {
+        return after != null ? after.boardId() : before.boardId();
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.copro.board.application.event;
+
+// 게시물의 좋아요, 댓글 수 변경 이벤트. 목록에 보이는 숫자만 바뀌고 게시물 내용은 그대로다.
+public record BoardCountChangedEvent(
+        Long boardId
+) {
+}
@@ -0,0 +1,7 @@
+package com.example.copro.board.application.event;
+
+// 게시물에서 이미지가 빠진 경우. 게시물 내용 이벤트(BoardChangedEvent)와 달리 이미지 목록만 바뀐다.
+public record BoardImagesChangedEvent(
+        Long boardId
+) {
+}
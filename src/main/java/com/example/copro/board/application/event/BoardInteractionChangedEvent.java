@@ -0,0 +1,13 @@
+package com.example.copro.board.application.event;
+
+// 회원의 좋아요, 스크랩 등록/취소 이벤트. 커밋 이후 회원별 좋아요/스크랩 비트맵에 반영한다.
+public record BoardInteractionChangedEvent(
+        Long memberId,
+        Long boardId,
+        Interaction interaction,
+        boolean added
+) {
+    public enum Interaction {
+        HEART, SCRAP
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.copro.board.application.event;
+
+import com.example.copro.board.domain.Board;
+import com.example.copro.board.domain.Category;
+import com.example.copro.board.domain.Tag;
+
+// 이벤트로 넘기는 게시물 값. 커밋 이후 리스너에서 엔티티(지연 로딩)를 건드리지 않도록 값만 복사한다.
+public record BoardSnapshot(
+        Long boardId,
+        Category category,
+        String title,
+        String contents,
+        String part,
+        Tag tag,
+        int count,
+        int heart
+) {
+    public static BoardSnapshot from(Board board) {
+        return new BoardSnapshot(board.getBoardId(), board.getCategory(), board.getTitle(), board.getContents(),
+                board.getPart(), board.getTag(), board.getCount(), board.getHeart());
+    }
+}
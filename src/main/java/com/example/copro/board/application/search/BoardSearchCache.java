@@ -0,0 +1,113 @@
+package com.example.copro.board.application.search;
+
+import com.example.copro.board.api.dto.response.BoardListRspDto;
+import com.example.copro.board.application.event.BoardChangedEvent;
+import com.example.copro.board.application.event.BoardSnapshot;
+import com.example.copro.global.util.Hangul;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시물 검색 결과 페이지 캐시. 크기와 TTL로 제한하고, 게시물이 등록, 수정, 삭제되면
+ * 그 게시물(변경 전, 후)이 검색될 수 있는 검색어의 항목만 골라서 지운다.
+ * 조회수, 좋아요 수 변화는 무효화하지 않으므로 TTL만큼 늦게 보일 수 있다.
+ *
+ * hit, miss, eviction은 cache.gets, cache.evictions{cache=board.search} 지표로, 선택 무효화 건수는
+ * board.search.cache.invalidations 지표로 확인한다.
+ */
+@Component
+public class BoardSearchCache {
+    private static final String CACHE_NAME = "board.search";
+    private static final int MAXIMUM_SIZE = 1_000;
+    private static final Duration TTL = Duration.ofSeconds(60);
+
+    private final Cache<SearchKey, BoardListRspDto> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TTL)
+            .recordStats()
+            .build();
+    // 조회 중에 무효화가 일어났다면 그 결과는 캐시에 넣지 않는다
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter invalidations;
+
+    public BoardSearchCache(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.invalidations = meterRegistry.counter(CACHE_NAME + ".cache.invalidations");
+    }
+
+    public BoardListRspDto get(String query, Pageable pageable, Supplier<BoardListRspDto> loader) {
+        SearchKey key = SearchKey.of(query, pageable);
+        BoardListRspDto cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long before = generation.get();
+        BoardListRspDto loaded = loader.get();
+        if (generation.get() == before) {
+            cache.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    // BoardSearchEngine이 색인에 반영한 뒤에 부른다. 먼저 지우면 그 사이 옛 색인으로 조회한 결과가 다시 캐시될 수 있다
+    public void invalidate(BoardChangedEvent event) {
+        generation.incrementAndGet();
+
+        List<SearchKey> stale = cache.asMap().keySet().stream()
+                .filter(key -> matches(key.query(), event.before()) || matches(key.query(), event.after()))
+                .toList();
+
+        cache.invalidateAll(stale);
+        invalidations.increment(stale.size());
+    }
+
+    // 검색 결과에 이 게시물이 포함될 수 있는지. 본문 색인(n-gram)과 제목 초성/자모 검색 중 하나라도 맞으면 true
+    private boolean matches(String query, BoardSnapshot board) {
+        if (board == null) {
+            return false;
+        }
+
+        List<String> words = BoardSearchTokenizer.words(String.join(" ", nullToEmpty(board.title()), nullToEmpty(board.contents()),
+                nullToEmpty(board.part()), board.tag() == null ? "" : board.tag().name()));
+        Set<String> grams = BoardSearchTokenizer.requiredGrams(query);
+        if (!grams.isEmpty() && grams.stream().allMatch(gram -> words.stream().anyMatch(word -> word.contains(gram)))) {
+            return true;
+        }
+
+        return Hangul.isChoseongQuery(query)
+                ? Hangul.choseong(board.title()).contains(Hangul.choseong(query))
+                : Hangul.decompose(board.title()).contains(Hangul.decompose(query));
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private record SearchKey(
+            String query,
+            int page,
+            int size,
+            String sort
+    ) {
+        static SearchKey of(String query, Pageable pageable) {
+            String normalized = Normalizer.normalize(query, Normalizer.Form.NFC)
+                    .toLowerCase(Locale.ROOT)
+                    .trim()
+                    .replaceAll("\\s+", " ");
+            return new SearchKey(normalized, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.copro.board.application.search;
+
+import com.example.copro.board.application.event.BoardChangedEvent;
+import com.example.copro.board.application.event.BoardSnapshot;
+import com.example.copro.board.domain.repository.BoardRepository;
+import com.example.copro.board.domain.repository.BoardSearchDocument;
+import com.example.copro.global.util.HangulSearchIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 게시물 검색용 메모리 역색인(본문 BM25 + 제목 초성/자모). 시작 시 DB에서 재구축하고 이후에는 커밋된 게시물 변경 이벤트로 갱신한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSearchEngine {
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+
+    private final BoardRepository boardRepository;
+    private final BoardSearchCache boardSearchCache;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private BoardSearchIndex index = new BoardSearchIndex();
+    private HangulSearchIndex titleIndex = new HangulSearchIndex();
+    // 재구축 중에 들어온 변경은 모아 두었다가 새 색인에 다시 반영한다
+    private List<BoardChangedEvent> pendingEvents;
+    private volatile boolean ready;
+
+    // 재구축이 끝나기 전에는 false, 호출하는 쪽은 기존 DB 검색으로 처리한다
+    public boolean isReady() {
+        return ready;
+    }
+
+    public BoardSearchResult search(String query, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.search(query, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 제목 초성("ㅍㄹㅈㅌ"), 입력 중인 글자("프로ㅈ") 검색. 최신순으로 돌려준다.
+    public BoardSearchResult searchTitle(String query, int offset, int limit) {
+        HangulSearchIndex.Result result;
+        lock.readLock().lock();
+        try {
+            result = titleIndex.search(query, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new BoardSearchResult(result.ids(), result.total());
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            apply(index, titleIndex, event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        boardSearchCache.invalidate(event);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingEvents = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        BoardSearchIndex rebuilt = new BoardSearchIndex();
+        HangulSearchIndex rebuiltTitles = new HangulSearchIndex();
+        try {
+            long lastId = 0L;
+            List<BoardSearchDocument> documents;
+            do {
+                documents = boardRepository.findSearchDocuments(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                for (BoardSearchDocument document : documents) {
+                    rebuilt.add(document.getBoardId(), document.getTitle(), document.getContents(), document.getPart(), document.getTag());
+                    rebuiltTitles.put(document.getBoardId(), document.getTitle());
+                    lastId = document.getBoardId();
+                }
+            } while (documents.size() == REBUILD_CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("게시물 검색 색인 재구축 실패, DB 검색을 계속 사용합니다.", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingEvents.forEach(event -> apply(rebuilt, rebuiltTitles, event));
+            pendingEvents = null;
+            index = rebuilt;
+            titleIndex = rebuiltTitles;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("게시물 검색 색인 재구축 완료: {}건", rebuilt.size());
+    }
+
+    private void apply(BoardSearchIndex target, HangulSearchIndex titles, BoardChangedEvent event) {
+        if (event.type() == BoardChangedEvent.ChangeType.DELETED) {
+            target.remove(event.boardId());
+            titles.remove(event.boardId());
+        } else {
+            BoardSnapshot board = event.after();
+            target.add(board.boardId(), board.title(), board.contents(), board.part(), board.tag());
+            titles.put(board.boardId(), board.title());
+        }
+
+        if (target.needsCompaction()) {
+            target.compact();
+        }
+    }
+}
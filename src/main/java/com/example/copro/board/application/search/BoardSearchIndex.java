@@ -0,0 +1,256 @@
+package com.example.copro.board.application.search;
+
+import com.example.copro.board.domain.Tag;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 게시물 제목, 내용, 모집 역할, 목적을 n-gram 단위로 색인하는 역색인.
+ * 동기화는 하지 않으므로 BoardSearchEngine의 lock 안에서만 사용한다.
+ *
+ * 수정, 삭제된 문서는 바로 지우지 않고 삭제 표시만 한 뒤 일정량 이상 쌓이면 compact()로 정리한다.
+ * 정리 전까지는 df에 삭제 문서가 포함되어 점수가 약간 달라질 수 있다.
+ */
+public class BoardSearchIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int FIELD_WEIGHT = 1;
+    // 점수가 같으면 최신 게시물(큰 id) 먼저
+    private static final Comparator<ScoredDoc> RANK = Comparator.comparingDouble(ScoredDoc::score).reversed()
+            .thenComparing(Comparator.comparingLong(ScoredDoc::boardId).reversed());
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docByBoardId = new HashMap<>();
+    private long[] boardIds = new long[1024];
+    private int[] docLengths = new int[1024];
+    private BitSet deleted = new BitSet();
+    private int docCount;
+    private int deletedCount;
+    private long liveLength;
+
+    public void add(Long boardId, String title, String contents, String part, Tag tag) {
+        remove(boardId);
+
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        BoardSearchTokenizer.addIndexGrams(title, TITLE_WEIGHT, termFrequencies);
+        BoardSearchTokenizer.addIndexGrams(contents, FIELD_WEIGHT, termFrequencies);
+        BoardSearchTokenizer.addIndexGrams(part, FIELD_WEIGHT, termFrequencies);
+        BoardSearchTokenizer.addIndexGrams(tag == null ? null : tag.name(), FIELD_WEIGHT, termFrequencies);
+
+        int doc = docCount++;
+        ensureCapacity(docCount);
+
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+        boardIds[doc] = boardId;
+        docLengths[doc] = length;
+        liveLength += length;
+        docByBoardId.put(boardId, doc);
+
+        // 새 문서 번호는 항상 가장 크므로 posting은 문서 번호 순으로 정렬된 상태를 유지한다
+        termFrequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new PostingList()).add(doc, frequency));
+    }
+
+    public void remove(Long boardId) {
+        Integer doc = docByBoardId.remove(boardId);
+        if (doc == null) {
+            return;
+        }
+
+        deleted.set(doc);
+        deletedCount++;
+        liveLength -= docLengths[doc];
+    }
+
+    public int size() {
+        return docByBoardId.size();
+    }
+
+    public boolean needsCompaction() {
+        return deletedCount > Math.max(1_000, size() / 5);
+    }
+
+    public BoardSearchResult search(String query, int offset, int limit) {
+        Set<String> requiredGrams = BoardSearchTokenizer.requiredGrams(query);
+        if (requiredGrams.isEmpty() || size() == 0) {
+            return BoardSearchResult.empty();
+        }
+
+        List<PostingCursor> required = new ArrayList<>();
+        for (String gram : requiredGrams) {
+            PostingList postingList = postings.get(gram);
+            if (postingList == null) {
+                return BoardSearchResult.empty();
+            }
+            required.add(new PostingCursor(postingList));
+        }
+        required.sort(Comparator.comparingInt(cursor -> cursor.postingList.size()));
+
+        List<PostingCursor> scoring = new ArrayList<>();
+        List<Double> idfs = new ArrayList<>();
+        for (String gram : BoardSearchTokenizer.scoringGrams(query)) {
+            PostingList postingList = postings.get(gram);
+            if (postingList != null) {
+                scoring.add(new PostingCursor(postingList));
+                idfs.add(idf(postingList.size()));
+            }
+        }
+
+        double averageLength = (double) liveLength / size();
+        // 요청한 페이지 끝까지만 점수가 낮은 문서부터 빠지는 힙에 유지하고, 나머지는 개수만 센다
+        int pageEnd = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        PriorityQueue<ScoredDoc> top = new PriorityQueue<>(RANK.reversed());
+        int total = 0;
+        PostingList smallest = required.get(0).postingList;
+
+        // 문서 번호 오름차순으로 훑으므로 다른 posting은 앞으로만 움직이는 커서로 찾는다
+        for (int i = 0; i < smallest.size(); i++) {
+            int doc = smallest.docs[i];
+            if (deleted.get(doc) || !containsAll(required, doc)) {
+                continue;
+            }
+            total++;
+
+            double score = 0;
+            for (int j = 0; j < scoring.size(); j++) {
+                int frequency = scoring.get(j).frequencyOf(doc);
+                if (frequency > 0) {
+                    double norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                    score += idfs.get(j) * frequency * (K1 + 1) / (frequency + norm);
+                }
+            }
+
+            ScoredDoc scored = new ScoredDoc(boardIds[doc], score);
+            if (top.size() < pageEnd) {
+                top.add(scored);
+            } else if (pageEnd > 0 && RANK.compare(scored, top.peek()) < 0) {
+                top.poll();
+                top.add(scored);
+            }
+        }
+
+        List<ScoredDoc> ranked = new ArrayList<>(top);
+        ranked.sort(RANK);
+        List<Long> page = ranked.stream()
+                .skip(offset)
+                .map(ScoredDoc::boardId)
+                .toList();
+
+        return new BoardSearchResult(page, total);
+    }
+
+    // 삭제 표시된 문서를 posting에서 걷어내고 문서 번호를 다시 매긴다. 번호 순서는 유지된다.
+    public void compact() {
+        int[] remap = new int[docCount];
+        long[] newBoardIds = new long[Math.max(1024, size())];
+        int[] newDocLengths = new int[newBoardIds.length];
+        int next = 0;
+
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deleted.get(doc)) {
+                remap[doc] = -1;
+                continue;
+            }
+            remap[doc] = next;
+            newBoardIds[next] = boardIds[doc];
+            newDocLengths[next] = docLengths[doc];
+            docByBoardId.put(boardIds[doc], next);
+            next++;
+        }
+
+        postings.values().removeIf(postingList -> postingList.remap(remap) == 0);
+
+        boardIds = newBoardIds;
+        docLengths = newDocLengths;
+        docCount = next;
+        deleted = new BitSet();
+        deletedCount = 0;
+    }
+
+    private boolean containsAll(List<PostingCursor> required, int doc) {
+        for (int i = 1; i < required.size(); i++) {
+            if (required.get(i).frequencyOf(doc) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > boardIds.length) {
+            int newLength = Math.max(capacity, boardIds.length * 2);
+            boardIds = Arrays.copyOf(boardIds, newLength);
+            docLengths = Arrays.copyOf(docLengths, newLength);
+        }
+    }
+
+    private record ScoredDoc(long boardId, double score) {
+    }
+
+    // 오름차순으로만 조회하는 posting 위치. 건너뛸 때는 남은 구간을 이진 탐색한다.
+    private static class PostingCursor {
+        private final PostingList postingList;
+        private int position;
+
+        PostingCursor(PostingList postingList) {
+            this.postingList = postingList;
+        }
+
+        int frequencyOf(int doc) {
+            int index = Arrays.binarySearch(postingList.docs, position, postingList.size, doc);
+            if (index >= 0) {
+                position = index + 1;
+                return postingList.frequencies[index];
+            }
+            position = -index - 1;
+            return 0;
+        }
+    }
+
+    // 문서 번호 오름차순으로 정렬된 (문서 번호, 빈도) 목록
+    private static class PostingList {
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int remap(int[] remap) {
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[next] = doc;
+                    frequencies[next] = frequencies[i];
+                    next++;
+                }
+            }
+            size = next;
+            return size;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.copro.board.application.search;
+
+import java.util.List;
+
+// BM25 점수 순으로 정렬된 한 페이지 분량의 게시물 id와 전체 일치 개수
+public record BoardSearchResult(
+        List<Long> boardIds,
+        long total
+) {
+    public static BoardSearchResult empty() {
+        return new BoardSearchResult(List.of(), 0);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.copro.board.application.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 한국어는 형태소 분석 없이 글자 n-gram으로 색인한다. 색인과 검색어 모두 같은 규칙으로 정규화한다.
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardSearchTokenizer {
+    private static final int MAX_GRAM = 3;
+
+    public static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> words = new ArrayList<>();
+        int start = -1;
+
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            words.add(normalized.substring(start));
+        }
+
+        return words;
+    }
+
+    // 색인용: 단어마다 1~3-gram, 필드 가중치만큼 빈도를 더한다
+    public static void addIndexGrams(String text, int weight, Map<String, Integer> termFrequencies) {
+        for (String word : words(text)) {
+            for (int n = 1; n <= MAX_GRAM; n++) {
+                for (int i = 0; i + n <= word.length(); i++) {
+                    termFrequencies.merge(word.substring(i, i + n), weight, Integer::sum);
+                }
+            }
+        }
+    }
+
+    // 결과 문서가 반드시 포함해야 하는 gram: 한 글자 단어는 그 글자, 두 글자 이상은 bigram
+    public static Set<String> requiredGrams(String query) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(query)) {
+            if (word.length() == 1) {
+                grams.add(word);
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                grams.add(word.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // 점수 계산용 gram: 필수 gram에 trigram을 더해 연속으로 일치하는 문서를 위로 올린다
+    public static Set<String> scoringGrams(String query) {
+        Set<String> grams = requiredGrams(query);
+        for (String word : words(query)) {
+            for (int i = 0; i + MAX_GRAM <= word.length(); i++) {
+                grams.add(word.substring(i, i + MAX_GRAM));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.copro.board.application.search;
+
+import com.example.copro.board.application.event.BoardChangedEvent;
+import com.example.copro.board.application.event.BoardSnapshot;
+import com.example.copro.board.domain.repository.BoardSuggestDocument;
+import com.example.copro.board.domain.repository.BoardSummaryRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 제목 자동완성. 등록, 수정, 삭제는 이벤트로 바로 반영하고 좋아요, 조회수 변화는 주기적으로 다시 읽어 순위에 반영한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSuggester {
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+    private static final int HEART_WEIGHT = 10;
+
+    private final BoardSummaryRepository boardSummaryRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private TitleSuggestTree tree = new TitleSuggestTree();
+    // 재구축 중에 들어온 변경은 모아 두었다가 새 트리에 다시 반영한다
+    private List<BoardChangedEvent> pendingEvents;
+
+    public List<TitleSuggestTree.Suggestion> suggest(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return tree.suggest(prefix, Math.min(limit, TitleSuggestTree.TOP_K));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            apply(tree, event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelay = 10 * 60 * 1000, initialDelay = 10 * 60 * 1000)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents != null) {
+                return;
+            }
+            pendingEvents = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        TitleSuggestTree rebuilt = new TitleSuggestTree();
+        try {
+            long lastId = 0L;
+            List<BoardSuggestDocument> documents;
+            do {
+                documents = boardSummaryRepository.findSuggestDocuments(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                for (BoardSuggestDocument document : documents) {
+                    rebuilt.put(document.getBoardId(), document.getTitle(), score(document.getHeart(), document.getCount()));
+                    lastId = document.getBoardId();
+                }
+            } while (documents.size() == REBUILD_CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("제목 자동완성 재구축 실패", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingEvents.forEach(event -> apply(rebuilt, event));
+            pendingEvents = null;
+            tree = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(TitleSuggestTree target, BoardChangedEvent event) {
+        if (event.type() == BoardChangedEvent.ChangeType.DELETED) {
+            target.remove(event.boardId());
+            return;
+        }
+
+        BoardSnapshot board = event.after();
+        target.put(board.boardId(), board.title(), score(board.heart(), board.count()));
+    }
+
+    // 좋아요 하나를 조회수 HEART_WEIGHT번과 같게 본다
+    private long score(int heart, int count) {
+        return (long) heart * HEART_WEIGHT + count;
+    }
+}
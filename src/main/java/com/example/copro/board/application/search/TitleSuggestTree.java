@@ -0,0 +1,192 @@
+package com.example.copro.board.application.search;
+
+import com.example.copro.global.util.Hangul;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 제목 자동완성용 삼진 탐색 트리(TST). 제목을 자모로 분해한 값을 키로 쓰므로 "프롲"처럼 입력 중인 글자로도 찾는다.
+ * 각 노드는 그 접두사로 시작하는 제목 중 점수 상위 TOP_K개를 들고 있어 조회는 접두사 길이만큼만 내려간다.
+ * 동기화는 하지 않으므로 BoardSuggester의 lock 안에서만 사용한다.
+ */
+public class TitleSuggestTree {
+    public static final int TOP_K = 10;
+
+    private static final Comparator<Suggestion> RANK = Comparator.comparingLong(Suggestion::score).reversed()
+            .thenComparing(Comparator.comparingLong(Suggestion::boardId).reversed());
+
+    private final Map<Long, Suggestion> suggestions = new HashMap<>();
+    private Node root;
+
+    public void put(long boardId, String title, long score) {
+        remove(boardId);
+
+        String key = Hangul.decompose(title);
+        if (key.isEmpty()) {
+            return;
+        }
+
+        Suggestion suggestion = new Suggestion(boardId, title, key, score);
+        suggestions.put(boardId, suggestion);
+
+        if (root == null) {
+            root = new Node(key.charAt(0));
+        }
+        Node node = root;
+        int i = 0;
+        while (true) {
+            char c = key.charAt(i);
+            if (c < node.c) {
+                node = node.lo == null ? (node.lo = new Node(c)) : node.lo;
+            } else if (c > node.c) {
+                node = node.hi == null ? (node.hi = new Node(c)) : node.hi;
+            } else {
+                node.offer(suggestion);
+                if (++i == key.length()) {
+                    if (node.terminals == null) {
+                        node.terminals = new HashSet<>(2);
+                    }
+                    node.terminals.add(boardId);
+                    return;
+                }
+                node = node.eq == null ? (node.eq = new Node(key.charAt(i))) : node.eq;
+            }
+        }
+    }
+
+    public void remove(long boardId) {
+        Suggestion suggestion = suggestions.remove(boardId);
+        if (suggestion == null) {
+            return;
+        }
+
+        // 다시 채울 때 후보로 잡히지 않도록 끝 노드에서 먼저 뺀다
+        String key = suggestion.key();
+        find(key).terminals.remove(boardId);
+
+        // 경로의 노드를 깊은 쪽부터 정리해, 위쪽 노드는 이미 갱신된 하위 노드의 상위 목록으로 다시 채운다
+        List<Node> path = new ArrayList<>(key.length());
+        Node node = root;
+        int i = 0;
+        while (node != null) {
+            char c = key.charAt(i);
+            if (c < node.c) {
+                node = node.lo;
+            } else if (c > node.c) {
+                node = node.hi;
+            } else {
+                path.add(node);
+                if (++i == key.length()) {
+                    break;
+                }
+                node = node.eq;
+            }
+        }
+
+        for (int j = path.size() - 1; j >= 0; j--) {
+            Node pathNode = path.get(j);
+            // 상위 목록이 꽉 차 있던 노드에서 빠졌다면 하위에 남은 후보로 다시 채운다
+            if (pathNode.top.removeIf(top -> top.boardId() == boardId) && pathNode.top.size() == TOP_K - 1) {
+                refill(pathNode);
+            }
+        }
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = Hangul.decompose(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Node node = find(key);
+        if (node == null) {
+            return List.of();
+        }
+        return List.copyOf(node.top.subList(0, Math.min(limit, node.top.size())));
+    }
+
+    public int size() {
+        return suggestions.size();
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        int i = 0;
+        while (node != null) {
+            char c = key.charAt(i);
+            if (c < node.c) {
+                node = node.lo;
+            } else if (c > node.c) {
+                node = node.hi;
+            } else {
+                if (++i == key.length()) {
+                    return node;
+                }
+                node = node.eq;
+            }
+        }
+        return null;
+    }
+
+    // node로 끝나는 제목 + eq 아래 형제 노드(lo, hi로 이어진 노드)들의 상위 목록. 형제 수는 자모 종류 수로 제한된다.
+    private void refill(Node node) {
+        List<Suggestion> candidates = new ArrayList<>();
+        if (node.terminals != null) {
+            node.terminals.forEach(boardId -> candidates.add(suggestions.get(boardId)));
+        }
+        collectSiblings(node.eq, candidates);
+        candidates.sort(RANK);
+
+        node.top.clear();
+        node.top.addAll(candidates.subList(0, Math.min(TOP_K, candidates.size())));
+    }
+
+    private void collectSiblings(Node node, List<Suggestion> candidates) {
+        if (node == null) {
+            return;
+        }
+        candidates.addAll(node.top);
+        collectSiblings(node.lo, candidates);
+        collectSiblings(node.hi, candidates);
+    }
+
+    public record Suggestion(
+            long boardId,
+            String title,
+            String key,
+            long score
+    ) {
+    }
+
+    private static class Node {
+        private final char c;
+        private Node lo;
+        private Node eq;
+        private Node hi;
+        private final List<Suggestion> top = new ArrayList<>();
+        // 이 노드에서 끝나는 제목의 게시물 id, 대부분의 노드는 null
+        private Set<Long> terminals;
+
+        Node(char c) {
+            this.c = c;
+        }
+
+        void offer(Suggestion suggestion) {
+            int index = 0;
+            while (index < top.size() && RANK.compare(top.get(index), suggestion) < 0) {
+                index++;
+            }
+            if (index < TOP_K) {
+                top.add(index, suggestion);
+                if (top.size() > TOP_K) {
+                    top.remove(TOP_K);
+                }
+            }
+        }
+    }
+}
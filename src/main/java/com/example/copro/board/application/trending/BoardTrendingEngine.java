@@ -0,0 +1,190 @@
+package com.example.copro.board.application.trending;
+
+import com.example.copro.board.application.event.BoardActivityEvent;
+import com.example.copro.board.application.event.BoardChangedEvent;
+import com.example.copro.board.application.event.BoardSnapshot;
+import com.example.copro.board.domain.Category;
+import com.example.copro.board.domain.repository.BoardSummaryRepository;
+import com.example.copro.board.domain.repository.BoardTrendingSeed;
+import com.example.copro.global.util.DecayedTopK;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 인기 게시물. 좋아요, 댓글, 조회 이벤트마다 점수를 더하고 점수는 HALF_LIFE마다 절반으로 줄어든다.
+ * 전체와 카테고리별로 상위 CAPACITY개만 메모리에 들고 있어 조회는 DB를 거치지 않는다.
+ * 시작 시 최근 SEED_PERIOD 동안 올라온 게시물의 누적 수치를 작성 후 지난 시간만큼 줄여 초기 점수로 넣는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardTrendingEngine {
+    public static final int MAX_LIMIT = 50;
+
+    private static final Duration HALF_LIFE = Duration.ofHours(6);
+    private static final Duration SEED_PERIOD = Duration.ofDays(7);
+    // 이어받은 점수로 높게 잡힌 항목이 보이지 않도록 보여줄 개수보다 넉넉하게 들고 있는다
+    private static final int CAPACITY = 200;
+    private static final int SEED_CHUNK_SIZE = 1_000;
+
+    private final BoardSummaryRepository boardSummaryRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final DecayedTopK overall = newTopK();
+    private final Map<Category, DecayedTopK> byCategory = newTopKByCategory();
+    // 어느 한 곳에라도 들어 있는 게시물의 제목, 카테고리
+    private final Map<Long, Meta> boards = new HashMap<>();
+
+    // category가 null이면 전체
+    public List<TrendingBoard> trending(Category category, int limit) {
+        long now = System.currentTimeMillis();
+        lock.readLock().lock();
+        try {
+            DecayedTopK topK = category == null ? overall : byCategory.get(category);
+            return topK.top(Math.min(limit, MAX_LIMIT), now).stream()
+                    .map(scored -> {
+                        Meta meta = boards.get(scored.id());
+                        return new TrendingBoard(scored.id(), meta.title(), meta.category(), scored.score());
+                    })
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 전체 1위 게시물, 아직 점수가 없으면 null
+    public Long mostTrendingBoardId() {
+        List<TrendingBoard> top = trending(null, 1);
+        return top.isEmpty() ? null : top.get(0).boardId();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(BoardActivityEvent event) {
+        lock.writeLock().lock();
+        try {
+            Meta meta = event.category() != null ? new Meta(event.title(), event.category()) : boards.get(event.boardId());
+            if (meta == null) {
+                // 들고 있지 않은 게시물의 좋아요 취소
+                return;
+            }
+            add(event.boardId(), meta, event.activity().weight(), System.currentTimeMillis());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            Meta meta = boards.get(event.boardId());
+            if (meta == null) {
+                return;
+            }
+
+            if (event.type() == BoardChangedEvent.ChangeType.DELETED) {
+                overall.remove(event.boardId());
+                byCategory.get(meta.category()).remove(event.boardId());
+                boards.remove(event.boardId());
+                return;
+            }
+
+            BoardSnapshot after = event.after();
+            if (after.category() != meta.category()) {
+                // 카테고리를 옮긴 게시물은 새 카테고리에서 0점부터 다시 쌓는다
+                byCategory.get(meta.category()).remove(after.boardId());
+            }
+            boards.put(after.boardId(), new Meta(after.title(), after.category()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        LocalDateTime since = LocalDateTime.now().minus(SEED_PERIOD);
+        int seeded = 0;
+        try {
+            long lastId = 0L;
+            List<BoardTrendingSeed> seeds;
+            do {
+                seeds = boardSummaryRepository.findTrendingSeeds(since, lastId, PageRequest.of(0, SEED_CHUNK_SIZE));
+                long now = System.currentTimeMillis();
+                lock.writeLock().lock();
+                try {
+                    for (BoardTrendingSeed seed : seeds) {
+                        add(seed.getBoardId(), new Meta(seed.getTitle(), seed.getCategory()), seedWeight(seed, now), now);
+                        lastId = seed.getBoardId();
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                seeded += seeds.size();
+            } while (seeds.size() == SEED_CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            // 초기 점수가 없어도 이후 이벤트로 쌓이므로 계속 진행한다
+            log.error("인기 게시물 초기 점수 계산 실패", e);
+            return;
+        }
+
+        log.info("인기 게시물 초기 점수 계산 완료: {}건", seeded);
+    }
+
+    // 점수 합산은 순서와 무관하므로 시작 중에 들어온 이벤트와 섞여도 된다
+    private void add(Long boardId, Meta meta, double weight, long now) {
+        boards.put(boardId, meta);
+        evicted(overall.add(boardId, weight, now));
+        evicted(byCategory.get(meta.category()).add(boardId, weight, now));
+        evicted(boardId);
+    }
+
+    // 어디에도 남아 있지 않은 게시물이면 제목도 지운다
+    private void evicted(Long boardId) {
+        if (boardId == null) {
+            return;
+        }
+        Meta meta = boards.get(boardId);
+        if (meta != null && !overall.contains(boardId) && !byCategory.get(meta.category()).contains(boardId)) {
+            boards.remove(boardId);
+        }
+    }
+
+    private double seedWeight(BoardTrendingSeed seed, long now) {
+        double total = BoardActivityEvent.Activity.HEART.weight() * seed.getHeart()
+                + BoardActivityEvent.Activity.COMMENT.weight() * seed.getCommentCount()
+                + BoardActivityEvent.Activity.VIEW.weight() * seed.getCount();
+        long createdAt = seed.getCreateAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return total * Math.pow(0.5, (double) Math.max(0, now - createdAt) / HALF_LIFE.toMillis());
+    }
+
+    private static DecayedTopK newTopK() {
+        return new DecayedTopK(CAPACITY, HALF_LIFE.toMillis(), System.currentTimeMillis());
+    }
+
+    private static Map<Category, DecayedTopK> newTopKByCategory() {
+        Map<Category, DecayedTopK> topKs = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            topKs.put(category, newTopK());
+        }
+        return topKs;
+    }
+
+    private record Meta(
+            String title,
+            Category category
+    ) {
+    }
+}
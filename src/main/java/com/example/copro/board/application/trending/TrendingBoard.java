@@ -0,0 +1,11 @@
+package com.example.copro.board.application.trending;
+
+import com.example.copro.board.domain.Category;
+
+public record TrendingBoard(
+        Long boardId,
+        String title,
+        Category category,
+        double score
+) {
+}
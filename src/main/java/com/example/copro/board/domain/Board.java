@@ -25,11 +25,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.Where;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @DynamicInsert
+@Where(clause = "deleted = false") // 삭제 표시된 게시물은 조회되지 않는다, 실제 행은 BoardPurger가 지운다
 public class Board extends BaseTimeEntity {
 
     @Id
@@ -70,6 +72,9 @@ public class Board extends BaseTimeEntity {
     @Column(columnDefinition = "int default 0")
     private int previousHeartCount;
 
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean deleted;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
@@ -84,6 +89,7 @@ public class Board extends BaseTimeEntity {
     private List<MemberScrapBoard> memberScrapBoards = new ArrayList<>();
 
     @OneToMany(fetch = FetchType.LAZY, orphanRemoval = true, cascade = CascadeType.ALL)
+    @JoinColumn(name = "board_id")
     @Schema(description = "이미지, 없으면 0을 요청")
     private List<Image> images = new ArrayList<>(5);
 
@@ -114,6 +120,11 @@ public class Board extends BaseTimeEntity {
         this.images.addAll(images);
     }
 
+    // 삭제 표시만 하고 좋아요, 스크랩, 신고, 댓글, 이미지는 BoardPurger가 나눠서 지운다
+    public void delete() {
+        this.deleted = true;
+    }
+
     public void updateViewCount() {
         this.count++;
     }
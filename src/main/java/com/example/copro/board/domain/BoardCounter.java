@@ -0,0 +1,38 @@
+package com.example.copro.board.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 카테고리별, 전체 게시물 수. 목록 페이지마다 COUNT(*) 하지 않도록 게시물 등록, 수정, 삭제 시 함께 갱신한다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "board_counter")
+public class BoardCounter {
+    public static final String ALL = "ALL";
+
+    @Id
+    @Column(name = "counter_key")
+    private String counterKey;
+
+    @Column(nullable = false)
+    private long total;
+
+    private BoardCounter(String counterKey, long total) {
+        this.counterKey = counterKey;
+        this.total = total;
+    }
+
+    public static BoardCounter of(String counterKey, long total) {
+        return new BoardCounter(counterKey, total);
+    }
+
+    public static String key(Category category) {
+        return category.name();
+    }
+}
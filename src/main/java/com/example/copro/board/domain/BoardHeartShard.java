@@ -0,0 +1,36 @@
+package com.example.copro.board.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 좋아요가 몰리는 게시물의 분산 카운터. 실제 좋아요 수는 board.heart + 이 게시물 slot들의 delta 합이다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "board_heart_shard", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_board_heart_shard_board_slot", columnNames = {"board_id", "slot"})
+})
+public class BoardHeartShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(nullable = false)
+    private int slot;
+
+    // 아직 board.heart에 합쳐지지 않은 증감분, 음수일 수 있다
+    @Column(nullable = false)
+    private long delta;
+}
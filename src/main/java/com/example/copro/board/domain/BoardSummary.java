@@ -0,0 +1,131 @@
+package com.example.copro.board.domain;
+
+import com.example.copro.image.api.dto.response.ImageBoardResDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+// 목록/검색 전용 읽기 모델. 게시물, 댓글, 닉네임 변경 시 BoardSummaryService가 함께 갱신한다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "board_summary", indexes = {
+        @Index(name = "idx_board_summary_category_create_at", columnList = "category, create_at, board_id"),
+        @Index(name = "idx_board_summary_category_count", columnList = "category, count, create_at, board_id"),
+        @Index(name = "idx_board_summary_member", columnList = "member_id")
+})
+public class BoardSummary implements Persistable<Long> {
+
+    @Id
+    @Column(name = "board_id")
+    @Schema(description = "게시판 id", example = "1")
+    private Long boardId;
+
+    @Column(nullable = false)
+    @Schema(description = "게시글 제목", example = "제목")
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Schema(description = "게시판 종류", example = "공지사항, 자유, 프로젝트")
+    private Category category;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Schema(description = "작성자 닉네임", example = "웅이")
+    private String nickName;
+
+    @Schema(description = "대표 이미지 url", example = "https://dddd")
+    private String imageUrl;
+
+    @Column(name = "create_at")
+    private LocalDateTime createAt;
+
+    @Column(columnDefinition = "int default 0")
+    @Schema(description = "조회수", example = "11")
+    private int count;
+
+    @Column(columnDefinition = "int default 0")
+    @Schema(description = "좋아요", example = "2")
+    private int heart;
+
+    @Column(columnDefinition = "int default 0")
+    @Schema(description = "댓글 수", example = "3")
+    private int commentCount;
+
+    // 댓글 목록 버전, 댓글 등록/수정/삭제 트랜잭션에서 1씩 올린다
+    @Column(name = "comment_version", columnDefinition = "bigint default 0")
+    private long commentVersion;
+
+    // id를 직접 넣는 엔티티라 save가 merge(select 후 insert)로 처리되지 않도록 새로 만든 객체임을 알린다
+    @Transient
+    private boolean isNew = true;
+
+    @Builder
+    private BoardSummary(Long boardId, String title, Category category, Long memberId, String nickName,
+                         String imageUrl, LocalDateTime createAt, int count, int heart, int commentCount) {
+        this.boardId = boardId;
+        this.title = title;
+        this.category = category;
+        this.memberId = memberId;
+        this.nickName = nickName;
+        this.imageUrl = imageUrl;
+        this.createAt = createAt;
+        this.count = count;
+        this.heart = heart;
+        this.commentCount = commentCount;
+    }
+
+    @Override
+    public Long getId() {
+        return boardId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public static BoardSummary of(Board board, int commentCount) {
+        return BoardSummary.builder()
+                .boardId(board.getBoardId())
+                .title(board.getTitle())
+                .category(board.getCategory())
+                .memberId(board.getMember().getMemberId())
+                .nickName(board.getMember().getNickName())
+                .imageUrl(ImageBoardResDto.from(board).imageUrl())
+                .createAt(board.getCreateAt())
+                .count(board.getCount())
+                .heart(board.getHeart())
+                .commentCount(commentCount)
+                .build();
+    }
+
+    // 제목, 카테고리, 대표 이미지만 수정 대상. 카운트는 원자적 update 쿼리로만 변경한다.
+    public void update(Board board) {
+        this.title = board.getTitle();
+        this.category = board.getCategory();
+        this.imageUrl = ImageBoardResDto.from(board).imageUrl();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.copro.board.domain;
+
+import com.example.copro.global.util.HyperLogLog;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 게시물별 순 조회자(HyperLogLog) 저장. 서버마다 모은 sketch를 레지스터 최댓값으로 합쳐 저장한다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "board_viewer_sketch")
+public class BoardViewerSketch {
+
+    @Id
+    @Column(name = "board_id")
+    private Long boardId;
+
+    @Column(nullable = false, length = HyperLogLog.REGISTER_COUNT)
+    private byte[] registers;
+
+    @Column(name = "viewer_count", nullable = false)
+    private long viewerCount;
+
+    private BoardViewerSketch(Long boardId) {
+        this.boardId = boardId;
+        this.registers = new byte[HyperLogLog.REGISTER_COUNT];
+    }
+
+    public static BoardViewerSketch of(Long boardId) {
+        return new BoardViewerSketch(boardId);
+    }
+
+    public HyperLogLog toHyperLogLog() {
+        return HyperLogLog.of(registers);
+    }
+
+    public void merge(HyperLogLog sketch) {
+        HyperLogLog merged = toHyperLogLog();
+        merged.merge(sketch);
+        this.registers = merged.toByteArray();
+        this.viewerCount = merged.estimate();
+    }
+}
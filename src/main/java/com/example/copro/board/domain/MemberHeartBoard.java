@@ -12,6 +12,9 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(name = "member_heart_board", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_member_heart_board_member_board", columnNames = {"member_id", "board_id"})
+})
 public class MemberHeartBoard {
 
     @Id
@@ -0,0 +1,39 @@
+package com.example.copro.board.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 스케줄 작업이 계산한 인기 게시물. 모든 서버가 같은 값을 읽고, 재시작한 서버도 바로 응답할 수 있도록 저장한다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "popular_board")
+public class PopularBoard {
+    public static final String MOST_INCREASED_HEART = "MOST_INCREASED_HEART";
+
+    @Id
+    @Column(name = "ranking_key", length = 64)
+    private String rankingKey;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    private PopularBoard(String rankingKey, Long boardId, LocalDateTime computedAt) {
+        this.rankingKey = rankingKey;
+        this.boardId = boardId;
+        this.computedAt = computedAt;
+    }
+
+    public static PopularBoard of(String rankingKey, Long boardId) {
+        return new PopularBoard(rankingKey, boardId, LocalDateTime.now());
+    }
+}
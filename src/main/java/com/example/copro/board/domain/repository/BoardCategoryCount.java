@@ -0,0 +1,10 @@
+package com.example.copro.board.domain.repository;
+
+import com.example.copro.board.domain.Category;
+
+// 카테고리별 게시물 수 projection
+public interface BoardCategoryCount {
+    Category getCategory();
+
+    long getTotal();
+}
@@ -0,0 +1,8 @@
+package com.example.copro.board.domain.repository;
+
+// 댓글 등록 응답용 projection, 게시물 댓글 수와 댓글 목록 버전
+public interface BoardCommentState {
+    int getCommentCount();
+
+    long getCommentVersion();
+}
@@ -0,0 +1,18 @@
+package com.example.copro.board.domain.repository;
+
+import com.example.copro.board.domain.BoardCounter;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BoardCounterRepository extends JpaRepository<BoardCounter, String> {
+
+    @Modifying
+    @Query("update BoardCounter c set c.total = c.total + :delta where c.counterKey in :counterKeys")
+    int add(@Param("counterKeys") List<String> counterKeys, @Param("delta") long delta);
+
+    @Query("select b.category as category, count(b) as total from Board b group by b.category")
+    List<BoardCategoryCount> countByCategory();
+}
@@ -2,11 +2,18 @@ package com.example.copro.board.domain.repository;
 
 import com.example.copro.board.api.dto.response.BoardDto;
 import com.example.copro.board.domain.Category;
+import com.example.copro.board.util.BoardCursor;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface BoardCustomRepository {
     Page<BoardDto> findAllWithCommentCount(Category category, Pageable pageable);
 
+    Slice<BoardDto> findAllWithCommentCountByCursor(Category category, BoardCursor cursor, Pageable pageable);
+
     Page<BoardDto> findByTitleContaining(String query, Pageable pageable);
+
+    Optional<BoardDetail> findDetail(Long boardId);
 }
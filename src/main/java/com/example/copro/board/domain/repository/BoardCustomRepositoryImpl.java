@@ -1,19 +1,28 @@
 package com.example.copro.board.domain.repository;
 
 import com.example.copro.board.api.dto.response.BoardDto;
-import com.example.copro.board.domain.Board;
+import com.example.copro.board.domain.BoardCounter;
 import com.example.copro.board.domain.Category;
 import com.example.copro.board.domain.QBoard;
+import com.example.copro.board.domain.QBoardCounter;
+import com.example.copro.board.domain.QBoardSummary;
+import com.example.copro.board.util.BoardCursor;
 import com.example.copro.comment.domain.QComment;
+import com.example.copro.member.domain.QMember;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.core.types.Path;
-import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
@@ -21,6 +30,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+// 목록/검색은 board_summary 읽기 모델에서 조인, group by 없이 조회
 @RequiredArgsConstructor
 @Repository
 public class BoardCustomRepositoryImpl implements BoardCustomRepository{
@@ -29,66 +39,151 @@ public class BoardCustomRepositoryImpl implements BoardCustomRepository{
 
     @Override
     public Page<BoardDto> findAllWithCommentCount(Category category, Pageable pageable) {
-        QBoard board = QBoard.board;
-        QComment comment = QComment.comment;
-
-        List<OrderSpecifier<?>> orders = new ArrayList<>();
-
-        pageable.getSort();
-        if (pageable.getSort().getOrderFor("count") != null) {
-            orders.add(new OrderSpecifier<>(Order.DESC, board.count));
-            orders.add(new OrderSpecifier<>(Order.DESC, board.createAt));
-        } else if (pageable.getSort().getOrderFor("createAt") != null) {
-            orders.add(new OrderSpecifier<>(Order.DESC, board.createAt));
-        }
+        QBoardSummary boardSummary = QBoardSummary.boardSummary;
 
         List<BoardDto> results = queryFactory
-                .select(board, comment.count())
-                .from(board)
-                .leftJoin(comment).on(comment.board.boardId.eq(board.boardId))
-                .where(board.category.eq(Category.valueOf(String.valueOf(category))))
-                .groupBy(board.boardId)
+                .selectFrom(boardSummary)
+                .where(boardSummary.category.eq(category))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .orderBy(orders.toArray(new OrderSpecifier[0]))
+                .orderBy(orders(boardSummary, pageable))
+                .fetch()
+                .stream()
+                .map(BoardDto::from)
+                .collect(Collectors.toList());
+
+        // 전체 개수는 board_counter에서 읽는다
+        QBoardCounter boardCounter = QBoardCounter.boardCounter;
+        Long total = queryFactory
+                .select(boardCounter.total)
+                .from(boardCounter)
+                .where(boardCounter.counterKey.eq(BoardCounter.key(category)))
+                .fetchOne();
+
+        return new PageImpl<>(results, pageable, total == null ? 0 : total);
+    }
+
+    // offset 대신 마지막으로 본 게시물 위치(커서) 이후부터 조회, 전체 개수는 세지 않고 size + 1개로 다음 페이지 여부만 판단
+    @Override
+    public Slice<BoardDto> findAllWithCommentCountByCursor(Category category, BoardCursor cursor, Pageable pageable) {
+        QBoardSummary boardSummary = QBoardSummary.boardSummary;
+
+        boolean sortByCount = isSortByCount(pageable);
+
+        List<BoardDto> results = queryFactory
+                .selectFrom(boardSummary)
+                .where(boardSummary.category.eq(category), afterCursor(boardSummary, cursor, sortByCount))
+                .orderBy(orders(boardSummary, pageable))
+                .limit(pageable.getPageSize() + 1L)
                 .fetch()
                 .stream()
-                .map(tuple -> BoardDto.from(tuple.get(board), Optional.ofNullable(tuple.get(comment.count())).orElse(0L).intValue()))
+                .map(BoardDto::from)
                 .collect(Collectors.toList());
 
-        long total = queryFactory
-                .selectFrom(board)
-                .where(board.category.eq(Category.valueOf(String.valueOf(category))))
-                .fetchCount();
+        boolean hasNext = results.size() > pageable.getPageSize();
+        if (hasNext) {
+            results = results.subList(0, pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(results, pageable, hasNext);
+    }
+
+    private boolean isSortByCount(Pageable pageable) {
+        return pageable.getSort().getOrderFor("count") != null;
+    }
+
+    // 인덱스 (category, [count,] create_at, board_id) 순서와 동일하게 정렬
+    private OrderSpecifier<?>[] orders(QBoardSummary boardSummary, Pageable pageable) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+
+        if (isSortByCount(pageable)) {
+            orders.add(new OrderSpecifier<>(Order.DESC, boardSummary.count));
+        }
+        orders.add(new OrderSpecifier<>(Order.DESC, boardSummary.createAt));
+        orders.add(new OrderSpecifier<>(Order.DESC, boardSummary.boardId));
+
+        return orders.toArray(new OrderSpecifier[0]);
+    }
+
+    // (createAt, boardId) 또는 (count, createAt, boardId) 기준으로 커서보다 뒤에 있는 게시물
+    private BooleanExpression afterCursor(QBoardSummary boardSummary, BoardCursor cursor, boolean sortByCount) {
+        if (cursor == null) {
+            return null;
+        }
+
+        BooleanExpression afterCreateAt = boardSummary.createAt.lt(cursor.createAt())
+                .or(boardSummary.createAt.eq(cursor.createAt()).and(boardSummary.boardId.lt(cursor.boardId())));
+
+        if (!sortByCount) {
+            return afterCreateAt;
+        }
 
-        return new PageImpl<>(results, pageable, total);
+        return boardSummary.count.lt(cursor.count())
+                .or(boardSummary.count.eq(cursor.count()).and(afterCreateAt));
     }
 
     @Override
     public Page<BoardDto> findByTitleContaining(String query, Pageable pageable) {
-        QBoard board = QBoard.board;
-        QComment comment = QComment.comment;
+        QBoardSummary boardSummary = QBoardSummary.boardSummary;
 
         List<BoardDto> results = queryFactory
-                .select(board, comment.count())
-                .from(board)
-                .leftJoin(comment).on(comment.board.boardId.eq(board.boardId))
-                .where(board.title.contains(query))
-                .groupBy(board.boardId)
-                .orderBy(board.createAt.desc())
+                .selectFrom(boardSummary)
+                .where(boardSummary.title.contains(query))
+                .orderBy(boardSummary.createAt.desc(), boardSummary.boardId.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch()
                 .stream()
-                .map(tuple -> BoardDto.from(tuple.get(board), Optional.ofNullable(tuple.get(comment.count())).orElse(0L).intValue()))
+                .map(BoardDto::from)
                 .collect(Collectors.toList());
 
-        long total = queryFactory
-                .selectFrom(board)
-                .where(board.title.contains(query))
-                .fetchCount();
-
-        return new PageImpl<>(results, pageable, total);
+        // 검색어별 개수는 카운터로 관리할 수 없어, 마지막 페이지처럼 개수를 알 수 있으면 count 쿼리를 생략한다
+        return PageableExecutionUtils.getPage(results, pageable, () -> queryFactory
+                .selectFrom(boardSummary)
+                .where(boardSummary.title.contains(query))
+                .fetchCount());
     }
 
+    // 조회하는 회원과 상관없는 상세 정보(게시물, 작성자, 댓글 수)를 한 문장으로 조회한다. 이미지는 따로 조회한다.
+    @Override
+    public Optional<BoardDetail> findDetail(Long boardId) {
+        QBoard board = QBoard.board;
+        QMember writer = QMember.member;
+        QComment comment = QComment.comment;
+
+        JPQLQuery<Long> commentCount = JPAExpressions.select(comment.count())
+                .from(comment)
+                .where(comment.board.boardId.eq(board.boardId));
+
+        Tuple tuple = queryFactory
+                .select(board.boardId, board.title, board.createAt, board.category, board.contents, board.part,
+                        board.tag, board.count, board.heart,
+                        writer.nickName, writer.occupation, writer.email, writer.picture,
+                        commentCount)
+                .from(board)
+                .leftJoin(board.member, writer)
+                .where(board.boardId.eq(boardId), board.deleted.isFalse())
+                .fetchOne();
+
+        if (tuple == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new BoardDetail(
+                tuple.get(board.boardId),
+                tuple.get(board.title),
+                tuple.get(board.createAt),
+                tuple.get(board.category),
+                tuple.get(board.contents),
+                tuple.get(board.part),
+                tuple.get(board.tag),
+                tuple.get(board.count),
+                tuple.get(board.heart),
+                tuple.get(writer.nickName),
+                tuple.get(writer.occupation),
+                tuple.get(writer.email),
+                tuple.get(writer.picture),
+                tuple.get(commentCount).intValue()
+        ));
+    }
 }
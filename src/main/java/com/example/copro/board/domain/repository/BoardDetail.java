@@ -0,0 +1,24 @@
+package com.example.copro.board.domain.repository;
+
+import com.example.copro.board.domain.Category;
+import com.example.copro.board.domain.Tag;
+import java.time.LocalDateTime;
+
+// 상세 조회에서 조회하는 회원과 상관없는 부분(게시물, 작성자, 댓글 수). BoardDetailCache에 캐시한다.
+public record BoardDetail(
+        Long boardId,
+        String title,
+        LocalDateTime createAt,
+        Category category,
+        String contents,
+        String part,
+        Tag tag,
+        int count,
+        int heart,
+        String nickName,
+        String occupation,
+        String email,
+        String picture,
+        int commentCount
+) {
+}
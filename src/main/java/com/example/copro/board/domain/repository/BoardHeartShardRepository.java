@@ -0,0 +1,12 @@
+package com.example.copro.board.domain.repository;
+
+import com.example.copro.board.domain.BoardHeartShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BoardHeartShardRepository extends JpaRepository<BoardHeartShard, Long> {
+
+    @Query("select coalesce(sum(s.delta), 0) from BoardHeartShard s where s.boardId = :boardId")
+    long sumDeltaByBoardId(@Param("boardId") Long boardId);
+}
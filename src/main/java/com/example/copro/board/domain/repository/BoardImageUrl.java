@@ -0,0 +1,7 @@
+package com.example.copro.board.domain.repository;
+
+public interface BoardImageUrl {
+    Long getBoardId();
+
+    String getImageUrl();
+}
@@ -3,18 +3,68 @@ package com.example.copro.board.domain.repository;
 import com.example.copro.board.api.dto.response.BoardDto;
 import com.example.copro.board.domain.Board;
 import com.example.copro.board.domain.Category;
-import com.example.copro.image.domain.Image;
 import com.example.copro.member.domain.Member;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BoardRepository extends JpaRepository<Board, Long>,BoardCustomRepository {
 
-    Board findByImagesContaining(Image image);
     @Query("SELECT b FROM Board b WHERE b.heart - b.previousHeartCount = (SELECT MAX(b2.heart - b2.previousHeartCount) FROM Board b2)")
     List<Board> findWithMaxIncreaseInHeart();
     Page<Board> findByMember(Member member, Pageable pageable);
+
+    // id 조회도 삭제 표시된 게시물은 제외한다
+    @Override
+    @Query("select b from Board b where b.boardId = :boardId and b.deleted = false")
+    Optional<Board> findById(@Param("boardId") Long boardId);
+
+    @Override
+    @Query("select b from Board b where b.boardId in :boardIds and b.deleted = false")
+    List<Board> findAllById(@Param("boardIds") Iterable<Long> boardIds);
+
+    // 정리(purge)로 행이 지워졌는지 확인, 스냅샷이 아닌 최신 커밋을 보도록 잠금 읽기로 조회한다
+    @Query(value = "select board_id from board where board_id = :boardId for update", nativeQuery = true)
+    Optional<Long> findIdForUpdate(@Param("boardId") Long boardId);
+
+    // 아직 정리되지 않은 삭제 게시물을 board_id 순서로 이어서 조회, @Where를 거치지 않도록 native로 조회
+    @Query(value = "select board_id from board where deleted = true and board_id > :afterId order by board_id limit :limit",
+            nativeQuery = true)
+    List<Long> findDeletedBoardIdsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    // 요약 백필용, 작성자와 이미지를 함께 읽어 게시물마다 지연 로딩하지 않는다
+    @Query("select b from Board b left join fetch b.member left join fetch b.images where b.boardId in :boardIds")
+    List<Board> findAllWithMemberAndImagesByIdIn(@Param("boardIds") List<Long> boardIds);
+
+    @Query("select b.boardId from Board b where b.member.memberId = :memberId")
+    List<Long> findBoardIdsByMemberId(@Param("memberId") Long memberId);
+
+    @Query("select b.boardId as boardId, i.imageUrl as imageUrl from Board b join b.images i "
+            + "where b.boardId in :boardIds order by i.id")
+    List<BoardImageUrl> findImageUrlsByBoardIdIn(@Param("boardIds") List<Long> boardIds);
+
+    @Query("select b.boardId as boardId, b.title as title, b.contents as contents, b.part as part, b.tag as tag "
+            + "from Board b where b.boardId > :lastId order by b.boardId")
+    List<BoardSearchDocument> findSearchDocuments(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Modifying
+    @Query("update Board b set b.heart = b.heart + 1 where b.boardId = :boardId")
+    int increaseHeart(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query("update Board b set b.heart = b.heart - 1 where b.boardId = :boardId and b.heart > 0")
+    int decreaseHeart(@Param("boardId") Long boardId);
+
+    @Query("select b.heart from Board b where b.boardId = :boardId")
+    int findHeartByBoardId(@Param("boardId") Long boardId);
+
+    // 자정마다 현재 좋아요 수를 이전 좋아요 수로 남긴다, 엔티티를 읽지 않고 한 문장으로 처리
+    @Modifying
+    @Query("update Board b set b.previousHeartCount = b.heart")
+    int snapshotPreviousHeartCounts();
 }
@@ -0,0 +1,16 @@
+package com.example.copro.board.domain.repository;
+
+import com.example.copro.board.domain.Tag;
+
+// 검색 색인 재구축용 projection
+public interface BoardSearchDocument {
+    Long getBoardId();
+
+    String getTitle();
+
+    String getContents();
+
+    String getPart();
+
+    Tag getTag();
+}
@@ -0,0 +1,12 @@
+package com.example.copro.board.domain.repository;
+
+// 자동완성 색인 재구축용 projection
+public interface BoardSuggestDocument {
+    Long getBoardId();
+
+    String getTitle();
+
+    int getCount();
+
+    int getHeart();
+}
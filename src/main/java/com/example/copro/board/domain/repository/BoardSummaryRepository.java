@@ -0,0 +1,66 @@
+package com.example.copro.board.domain.repository;
+
+import com.example.copro.board.domain.BoardSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BoardSummaryRepository extends JpaRepository<BoardSummary, Long> {
+
+    @Modifying
+    @Query("update BoardSummary s set s.heart = s.heart + 1 where s.boardId = :boardId")
+    int increaseHeart(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query("update BoardSummary s set s.heart = s.heart - 1 where s.boardId = :boardId and s.heart > 0")
+    int decreaseHeart(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query("update BoardSummary s set s.commentCount = s.commentCount + 1, s.commentVersion = s.commentVersion + 1 "
+            + "where s.boardId = :boardId")
+    int increaseCommentCount(@Param("boardId") Long boardId);
+
+    @Query("select s.commentCount as commentCount, s.commentVersion as commentVersion from BoardSummary s "
+            + "where s.boardId = :boardId")
+    Optional<BoardCommentState> findCommentStateByBoardId(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query("update BoardSummary s set s.commentCount = :commentCount, s.commentVersion = s.commentVersion + 1 "
+            + "where s.boardId = :boardId")
+    int updateCommentCount(@Param("boardId") Long boardId, @Param("commentCount") int commentCount);
+
+    @Modifying
+    @Query("update BoardSummary s set s.commentVersion = s.commentVersion + 1 where s.boardId = :boardId")
+    int increaseCommentVersion(@Param("boardId") Long boardId);
+
+    // 작성자 정보가 바뀌면 그 회원이 댓글을 단 게시물의 댓글 목록이 바뀐다
+    @Modifying
+    @Query("update BoardSummary s set s.commentVersion = s.commentVersion + 1 "
+            + "where s.boardId in (select c.board.boardId from Comment c where c.writer.memberId = :memberId)")
+    int increaseCommentVersionByWriterId(@Param("memberId") Long memberId);
+
+    @Query("select s.commentVersion from BoardSummary s where s.boardId = :boardId")
+    Optional<Long> findCommentVersionByBoardId(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query("update BoardSummary s set s.nickName = :nickName where s.memberId = :memberId")
+    int updateNickName(@Param("memberId") Long memberId, @Param("nickName") String nickName);
+
+    @Query("select b.boardId from Board b where not exists (select s.boardId from BoardSummary s where s.boardId = b.boardId)")
+    List<Long> findBoardIdsWithoutSummary();
+
+    @Query("select s.boardId as boardId, s.title as title, s.count as count, s.heart as heart from BoardSummary s "
+            + "where s.boardId > :lastId order by s.boardId")
+    List<BoardSuggestDocument> findSuggestDocuments(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("select s.boardId as boardId, s.title as title, s.category as category, s.createAt as createAt, "
+            + "s.count as count, s.heart as heart, s.commentCount as commentCount from BoardSummary s "
+            + "where s.createAt >= :since and s.boardId > :lastId order by s.boardId")
+    List<BoardTrendingSeed> findTrendingSeeds(@Param("since") LocalDateTime since, @Param("lastId") Long lastId,
+                                              Pageable pageable);
+}
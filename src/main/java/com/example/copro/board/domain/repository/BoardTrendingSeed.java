@@ -0,0 +1,21 @@
+package com.example.copro.board.domain.repository;
+
+import com.example.copro.board.domain.Category;
+import java.time.LocalDateTime;
+
+// 인기 게시물 점수 초기값 계산용 projection
+public interface BoardTrendingSeed {
+    Long getBoardId();
+
+    String getTitle();
+
+    Category getCategory();
+
+    LocalDateTime getCreateAt();
+
+    int getCount();
+
+    int getHeart();
+
+    int getCommentCount();
+}
@@ -0,0 +1,18 @@
+package com.example.copro.board.domain.repository;
+
+import com.example.copro.board.domain.BoardViewerSketch;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BoardViewerSketchRepository extends JpaRepository<BoardViewerSketch, Long> {
+
+    // 여러 서버가 같은 게시물을 동시에 합쳐 저장하지 않도록 잠그고 읽는다. id 순서로 잠가 교착을 피한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from BoardViewerSketch s where s.boardId in :boardIds order by s.boardId")
+    List<BoardViewerSketch> findAllByIdInForUpdate(@Param("boardIds") Collection<Long> boardIds);
+}
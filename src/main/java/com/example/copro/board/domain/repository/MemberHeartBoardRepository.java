@@ -3,11 +3,27 @@ package com.example.copro.board.domain.repository;
 import com.example.copro.board.domain.Board;
 import com.example.copro.board.domain.MemberHeartBoard;
 import com.example.copro.member.domain.Member;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberHeartBoardRepository extends JpaRepository<MemberHeartBoard, Long> {
     Optional<MemberHeartBoard> findByMemberMemberIdAndBoardBoardId(Long memberId, Long boardId);
 
     boolean existsByMemberAndBoard(Member member, Board board);
+
+    @Query("select h.board.boardId from MemberHeartBoard h where h.member.memberId = :memberId")
+    List<Long> findBoardIdsByMemberId(@Param("memberId") Long memberId);
+
+    // (member_id, board_id) unique 제약으로 이미 있으면 무시, 실제로 넣었을 때만 1
+    @Modifying
+    @Query(value = "insert ignore into member_heart_board (board_id, member_id) values (:boardId, :memberId)", nativeQuery = true)
+    int insertIfAbsent(@Param("memberId") Long memberId, @Param("boardId") Long boardId);
+
+    @Modifying
+    @Query("delete from MemberHeartBoard h where h.member.memberId = :memberId and h.board.boardId = :boardId")
+    int deleteByMemberIdAndBoardId(@Param("memberId") Long memberId, @Param("boardId") Long boardId);
 }
@@ -0,0 +1,7 @@
+package com.example.copro.board.domain.repository;
+
+import com.example.copro.board.domain.PopularBoard;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PopularBoardRepository extends JpaRepository<PopularBoard, String> {
+}
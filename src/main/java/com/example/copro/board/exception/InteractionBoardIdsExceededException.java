@@ -0,0 +1,13 @@
+package com.example.copro.board.exception;
+
+import com.example.copro.global.error.exception.InvalidGroupException;
+
+public class InteractionBoardIdsExceededException extends InvalidGroupException {
+    public InteractionBoardIdsExceededException(String message) {
+        super(message);
+    }
+
+    public InteractionBoardIdsExceededException(int max) {
+        this("게시물 id는 한 번에 최대 " + max + "개까지 조회할 수 있습니다.");
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.copro.board.exception;
+
+import com.example.copro.global.error.exception.InvalidGroupException;
+
+public class InvalidCategoryException extends InvalidGroupException {
+    public InvalidCategoryException(String category) {
+        super("잘못된 카테고리입니다. category: " + category);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.copro.board.exception;
+
+import com.example.copro.global.error.exception.InvalidGroupException;
+
+public class InvalidCursorException extends InvalidGroupException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException() {
+        this("잘못된 커서입니다.");
+    }
+}
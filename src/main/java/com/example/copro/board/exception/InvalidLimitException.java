@@ -0,0 +1,9 @@
+package com.example.copro.board.exception;
+
+import com.example.copro.global.error.exception.InvalidGroupException;
+
+public class InvalidLimitException extends InvalidGroupException {
+    public InvalidLimitException(int limit) {
+        super("조회 개수는 1 이상이어야 합니다. limit: " + limit);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.copro.board.util;
+
+import com.example.copro.board.api.dto.response.BoardDto;
+import com.example.copro.board.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션에서 마지막으로 내려준 게시물의 위치.
+ * 클라이언트에는 Base64로 인코딩한 불투명한 문자열로만 전달한다.
+ */
+public record BoardCursor(
+        int count,
+        LocalDateTime createAt,
+        long boardId
+) {
+    private static final String DELIMITER = "|";
+
+    public static BoardCursor of(BoardDto boardDto) {
+        return new BoardCursor(boardDto.count(), boardDto.createAt(), boardDto.id());
+    }
+
+    public String encode() {
+        String raw = count + DELIMITER + createAt + DELIMITER + boardId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 커서는 첫 페이지를 의미한다.
+    public static BoardCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw new InvalidCursorException();
+            }
+
+            return new BoardCursor(Integer.parseInt(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
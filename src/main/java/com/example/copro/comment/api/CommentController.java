@@ -3,16 +3,20 @@ package com.example.copro.comment.api;
 import com.example.copro.board.util.PageableUtil;
 import com.example.copro.comment.api.dto.request.CommentSaveReqDto;
 import com.example.copro.comment.api.dto.request.CommentUpdateReqDto;
+import com.example.copro.comment.api.dto.response.CommentCursorRspDto;
+import com.example.copro.comment.api.dto.response.CommentInsertResDto;
 import com.example.copro.comment.api.dto.response.CommentResDto;
 import com.example.copro.comment.application.CommentService;
 import com.example.copro.comment.domain.Comment;
 import com.example.copro.global.template.RspTemplate;
 import com.example.copro.member.domain.Member;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -29,11 +33,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/comment")
 public class CommentController {
+    // 댓글 목록 버전(board_summary.comment_version), 등록 응답의 threadVersion과 비교한다
+    private static final String THREAD_VERSION_HEADER = "X-Thread-Version";
 
     private final CommentService commentService;
 
@@ -57,6 +64,19 @@ public class CommentController {
         );
     }
 
+    @Operation(summary = "댓글 등록(등록한 댓글만 응답)", description = "response=created면 목록 대신 등록한 댓글, 게시물 댓글 수, 댓글 목록 버전만 돌려줍니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "등록 성공", content = @Content(schema = @Schema(implementation = CommentInsertResDto.class))),
+            @ApiResponse(responseCode = "401", description = "인증실패", content = @Content(schema = @Schema(example = "INVALID_HEADER or INVALID_TOKEN"))),
+    })
+    @PostMapping(value = "/{boardId}", params = "response=created")
+    public RspTemplate<CommentInsertResDto> insertAndGetCreated(@PathVariable(name = "boardId") Long boardId,
+                                                                @Valid @RequestBody CommentSaveReqDto commentSaveReqDto,
+                                                                @AuthenticationPrincipal Member member) {
+        CommentInsertResDto created = commentService.insertAndGetCreated(boardId, commentSaveReqDto, member);
+        return new RspTemplate<>(HttpStatus.OK, "댓글 작성 완료", created);
+    }
+
     @Operation(summary = "댓글 수정", description = "댓글 수정 합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "수정 성공"),
@@ -90,18 +110,67 @@ public class CommentController {
 
     @Operation(summary = "상세 페이지 댓글 조회", description = "상세 페이지의 댓글을 조회 합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "삭제 성공"),
+            @ApiResponse(responseCode = "200", description = "삭제 성공", headers = @Header(name = THREAD_VERSION_HEADER, description = "댓글 목록 버전")),
+            @ApiResponse(responseCode = "304", description = "변경 없음(If-None-Match)"),
             @ApiResponse(responseCode = "401", description = "인증실패", content = @Content(schema = @Schema(example = "INVALID_HEADER or INVALID_TOKEN"))),
     })
     @GetMapping("/{boardId}/comments")
     public RspTemplate<Page<CommentResDto>> getCommentsByBoard(@PathVariable(name = "boardId") Long boardId,
                                                                    @RequestParam(value = "page", defaultValue = "1") int page,
-                                                                   @RequestParam(value = "size", defaultValue = "10") int size
+                                                                   @RequestParam(value = "size", defaultValue = "10") int size,
+                                                                   WebRequest webRequest,
+                                                                   HttpServletResponse response
     ) {
+        long threadVersion = commentService.threadVersion(boardId);
+        response.setHeader(THREAD_VERSION_HEADER, String.valueOf(threadVersion));
+        if (webRequest.checkNotModified(commentService.commentsETag(boardId, threadVersion))) {
+            return null;
+        }
         Pageable pageable = PageableUtil.of(page, size);
         Page<CommentResDto> commentsByBoard = commentService.getCommentsByBoard(boardId, pageable);
         //Page<CommentResDto> commentsByBoard = commentService.getCommentsByBoard(boardId, page, size);
         return new RspTemplate<>(HttpStatus.OK, "상세 페이지 댓글 조회 성공", commentsByBoard);
     }
 
+    @Operation(summary = "상세 페이지 댓글 커서 조회", description = "cursor 파라미터가 있으면 최상위 댓글만 커서 기반으로 조회 합니다(첫 페이지는 빈 값). 답글은 replyCount를 보고 /replies로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = CommentCursorRspDto.class)), headers = @Header(name = THREAD_VERSION_HEADER, description = "댓글 목록 버전")),
+            @ApiResponse(responseCode = "304", description = "변경 없음(If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "401", description = "인증실패", content = @Content(schema = @Schema(example = "INVALID_HEADER or INVALID_TOKEN"))),
+    })
+    @GetMapping(value = "/{boardId}/comments", params = "cursor")
+    public RspTemplate<CommentCursorRspDto> getCommentsByBoardByCursor(@PathVariable(name = "boardId") Long boardId,
+                                                                      @RequestParam(value = "cursor", required = false) String cursor,
+                                                                      @RequestParam(value = "size", defaultValue = "10") int size,
+                                                                      WebRequest webRequest,
+                                                                      HttpServletResponse response
+    ) {
+        long threadVersion = commentService.threadVersion(boardId);
+        response.setHeader(THREAD_VERSION_HEADER, String.valueOf(threadVersion));
+        if (webRequest.checkNotModified(commentService.commentsETag(boardId, threadVersion))) {
+            return null;
+        }
+        Pageable pageable = PageableUtil.of(1, size);
+        CommentCursorRspDto comments = commentService.getCommentsByCursor(boardId, cursor, pageable);
+        return new RspTemplate<>(HttpStatus.OK, "상세 페이지 댓글 커서 조회 성공", comments);
+    }
+
+    @Operation(summary = "답글 조회", description = "댓글의 바로 아래 답글을 커서 기반으로 조회 합니다(첫 페이지는 빈 값)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = CommentCursorRspDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "401", description = "인증실패", content = @Content(schema = @Schema(example = "INVALID_HEADER or INVALID_TOKEN"))),
+            @ApiResponse(responseCode = "404", description = "댓글 없음"),
+    })
+    @GetMapping("/{commentId}/replies")
+    public RspTemplate<CommentCursorRspDto> getReplies(@PathVariable(name = "commentId") Long commentId,
+                                                       @RequestParam(value = "cursor", required = false) String cursor,
+                                                       @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        Pageable pageable = PageableUtil.of(1, size);
+        CommentCursorRspDto replies = commentService.getReplies(commentId, cursor, pageable);
+        return new RspTemplate<>(HttpStatus.OK, commentId + "번 댓글 답글 조회 성공", replies);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.example.copro.comment.api.dto.response;
+
+import com.example.copro.board.api.common.CursorInfoDto;
+import com.example.copro.comment.util.CommentCursor;
+import java.util.List;
+import org.springframework.data.domain.Slice;
+
+public record CommentCursorRspDto(
+        List<CommentResDto> comments,
+        CursorInfoDto cursorInfo
+) {
+    public static CommentCursorRspDto of(Slice<CommentResDto> comments) {
+        List<CommentResDto> commentResDtoList = comments.getContent();
+        String nextCursor = comments.hasNext() && !commentResDtoList.isEmpty()
+                ? CommentCursor.of(commentResDtoList.get(commentResDtoList.size() - 1)).encode()
+                : null;
+
+        return new CommentCursorRspDto(commentResDtoList, CursorInfoDto.of(comments, nextCursor));
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.copro.comment.api.dto.response;
+
+// 댓글 등록 후 목록 전체 대신 등록한 댓글만 내려준다. 클라이언트는 parentId를 보고 가지고 있는 트리에 끼워 넣는다.
+public record CommentInsertResDto(
+        CommentResDto comment,
+        int commentCount,   // 등록 후 게시물 댓글 수
+        long threadVersion  // 등록 후 댓글 목록 버전(board_summary), 목록 조회의 X-Thread-Version보다 2 이상 크면 그 사이 다른 변경이 있었던 것
+) {
+    public static CommentInsertResDto of(CommentResDto comment, int commentCount, long threadVersion) {
+        return new CommentInsertResDto(comment, commentCount, threadVersion);
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.copro.comment.api.dto.response;
 
+import com.example.copro.comment.application.CommentHydrationContext;
 import com.example.copro.comment.domain.Comment;
 import com.example.copro.member.api.dto.response.MemberCommentResDto;
+import com.example.copro.member.domain.Member;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -19,6 +21,7 @@ public class CommentResDto {
     private String content;
     private LocalDateTime createAt;
     private MemberCommentResDto writer;
+    private int replyCount;
 
     private List<CommentResDto> children = new ArrayList<>();
 
@@ -32,12 +35,27 @@ public class CommentResDto {
     }
 
     public static CommentResDto from(Comment comment) {
+        return of(comment, comment.getWriter());
+    }
+
+    // 작성자를 미리 읽어둔 context에서 꺼내 지연 로딩을 피한다
+    public static CommentResDto from(Comment comment, CommentHydrationContext context) {
+        return of(comment, context.writer(comment));
+    }
+
+    private static CommentResDto of(Comment comment, Member writer) {
+        CommentResDto commentResDto = create(comment, writer);
+        commentResDto.replyCount = comment.getReplyCount();
+        return commentResDto;
+    }
+
+    private static CommentResDto create(Comment comment, Member writer) {
         Long parentId = comment.getParent() != null ? comment.getParent().getCommentId() : -1L;
         return comment.getIsDeleted() ?
                 new CommentResDto(parentId,comment.getCommentId(), "삭제된 댓글입니다.", comment.getCreateAt(), null) :
                 new CommentResDto(parentId,comment.getCommentId(), comment.getContent(), comment.getCreateAt(),
-                        new MemberCommentResDto(comment.getWriter().getNickName(),
-                                comment.getWriter().getOccupation()));
+                        new MemberCommentResDto(writer.getNickName(),
+                                writer.getOccupation()));
     }
 
 }
\ No newline at end of file
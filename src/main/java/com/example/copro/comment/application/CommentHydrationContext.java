@@ -0,0 +1,14 @@
+package com.example.copro.comment.application;
+
+import com.example.copro.comment.domain.Comment;
+import com.example.copro.member.domain.Member;
+import java.util.Map;
+
+// 댓글 DTO 변환 시 지연 로딩 대신 참조하는 작성자 정보
+public record CommentHydrationContext(
+        Map<Long, Member> writers
+) {
+    public Member writer(Comment comment) {
+        return comment.getWriter() == null ? null : writers.get(comment.getWriter().getMemberId());
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.copro.comment.application;
+
+import com.example.copro.comment.domain.Comment;
+import com.example.copro.member.domain.Member;
+import com.example.copro.member.domain.repository.MemberRepository;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 댓글 작성자를 IN 쿼리 한 번으로 읽어온다.
+// 부모 댓글은 id만 필요하므로 FK 값(프록시 id)으로 처리하고 따로 로딩하지 않는다.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentHydrator {
+    private final MemberRepository memberRepository;
+
+    public CommentHydrationContext hydrate(Collection<Comment> comments) {
+        Set<Long> writerIds = comments.stream()
+                .map(Comment::getWriter)
+                .filter(Objects::nonNull)
+                .map(Member::getMemberId)
+                .collect(Collectors.toSet());
+
+        if (writerIds.isEmpty()) {
+            return new CommentHydrationContext(Map.of());
+        }
+
+        Map<Long, Member> writers = memberRepository.findAllById(writerIds).stream()
+                .collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+
+        return new CommentHydrationContext(writers);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.copro.comment.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * comment.reply_count 컬럼 추가 전에 달린 답글 수를 채운다.
+ * 실제 답글 수와 다른 댓글만 고치므로 이미 맞춰진 DB에서는 아무것도 바꾸지 않는다. (MariaDB 문법)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentReplyCountMigration {
+    private static final String RECOUNT_REPLIES = """
+            update comment c
+            join (select parent_id, count(*) as replies from comment where parent_id is not null group by parent_id) r
+              on r.parent_id = c.comment_id
+            set c.reply_count = r.replies
+            where c.reply_count <> r.replies
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            int updated = jdbcTemplate.update(RECOUNT_REPLIES);
+            if (updated > 0) {
+                log.info("댓글 {}건의 답글 수 재계산", updated);
+            }
+        } catch (RuntimeException e) {
+            log.error("답글 수 재계산 실패", e);
+        }
+    }
+}
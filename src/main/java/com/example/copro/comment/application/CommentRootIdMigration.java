@@ -0,0 +1,59 @@
+package com.example.copro.comment.application;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * comment.root_id 컬럼 추가 전에 달린 답글의 root_id 채우기.
+ * 답글은 부모보다 id가 크므로 id 구간을 앞에서부터 채우면 부모의 root_id는 이미 채워져 있다.
+ * 구간 안에서 부모와 자식이 함께 있으면 채워지지 않은 행이 없을 때까지 같은 구간을 반복한다.
+ * root_id가 빈 답글에만 쓰므로 여러 번 실행해도 결과가 같다. (MariaDB 문법)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentRootIdMigration {
+    private static final int CHUNK_SIZE = 1_000;
+    private static final String FIND_RANGE = """
+            select min(comment_id) as min_id, max(comment_id) as max_id from comment
+            where parent_id is not null and root_id is null
+            """;
+    private static final String FILL_ROOT_IDS = """
+            update comment c
+            join comment p on p.comment_id = c.parent_id
+            set c.root_id = coalesce(p.root_id, p.comment_id)
+            where c.comment_id between ? and ?
+              and c.root_id is null
+              and (p.parent_id is null or p.root_id is not null)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            Map<String, Object> range = jdbcTemplate.queryForMap(FIND_RANGE);
+            if (range.get("min_id") == null) {
+                return;
+            }
+
+            long maxId = ((Number) range.get("max_id")).longValue();
+            long filled = 0;
+            for (long from = ((Number) range.get("min_id")).longValue(); from <= maxId; from += CHUNK_SIZE) {
+                int updated;
+                do {
+                    updated = jdbcTemplate.update(FILL_ROOT_IDS, from, from + CHUNK_SIZE - 1);
+                    filled += updated;
+                } while (updated > 0);
+            }
+            log.info("답글 {}건의 root_id 채움", filled);
+        } catch (RuntimeException e) {
+            log.error("답글 root_id 채우기 실패", e);
+        }
+    }
+}
@@ -1,18 +1,27 @@
 package com.example.copro.comment.application;
 
+import com.example.copro.board.application.BoardETags;
+import com.example.copro.board.application.BoardSummaryService;
+import com.example.copro.board.application.event.BoardActivityEvent;
+import com.example.copro.board.application.event.BoardCountChangedEvent;
 import com.example.copro.board.domain.Board;
+import com.example.copro.board.domain.repository.BoardCommentState;
 import com.example.copro.board.domain.repository.BoardRepository;
 import com.example.copro.board.exception.BoardNotFoundException;
 import com.example.copro.board.exception.NotCommentOwnerException;
 import com.example.copro.comment.api.dto.request.CommentSaveReqDto;
 import com.example.copro.comment.api.dto.request.CommentUpdateReqDto;
+import com.example.copro.comment.api.dto.response.CommentCursorRspDto;
+import com.example.copro.comment.api.dto.response.CommentInsertResDto;
 import com.example.copro.comment.api.dto.response.CommentResDto;
 import com.example.copro.comment.domain.Comment;
 import com.example.copro.comment.domain.repository.CommentRepository;
 import com.example.copro.comment.exception.CommentNotFoundException;
+import com.example.copro.comment.util.CommentCursor;
 import com.example.copro.member.domain.Member;
 import com.example.copro.notification.application.FCMNotificationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,17 +35,39 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
     private final FCMNotificationService fcmNotificationService;
+    private final BoardSummaryService boardSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoardETags boardETags;
 
     @Transactional
     public void insert(Long boardId, CommentSaveReqDto commentSaveReqDto, Member member) {
+        save(boardId, commentSaveReqDto, member);
+    }
+
+    // 등록한 댓글, 댓글 수, 댓글 목록 버전만 돌려준다. 둘 다 같은 트랜잭션에서 올린 board_summary 값이다.
+    @Transactional
+    public CommentInsertResDto insertAndGetCreated(Long boardId, CommentSaveReqDto commentSaveReqDto, Member member) {
+        Comment comment = save(boardId, commentSaveReqDto, member);
+        BoardCommentState state = boardSummaryService.commentStateOf(boardId);
+        return CommentInsertResDto.of(CommentResDto.from(comment), state.getCommentCount(), state.getCommentVersion());
+    }
+
+    private Comment save(Long boardId, CommentSaveReqDto commentSaveReqDto, Member member) {
         Board board = boardRepository.findById(boardId).orElseThrow(() -> new BoardNotFoundException(boardId));
 
         Comment parentComment = getParentComment(commentSaveReqDto);
         Comment comment = builderComment(commentSaveReqDto, member, board, parentComment);
 
         commentRepository.save(comment);
+        if (parentComment != null) {
+            commentRepository.increaseReplyCount(parentComment.getCommentId());
+        }
+        boardSummaryService.increaseCommentCount(boardId);
+        eventPublisher.publishEvent(new BoardCountChangedEvent(boardId));
+        eventPublisher.publishEvent(BoardActivityEvent.of(board, BoardActivityEvent.Activity.COMMENT));
 
         fcmNotificationService.sendCommentNotification(board, member);
+        return comment;
     }
 
     @Transactional
@@ -72,6 +103,7 @@ public class CommentService {
         validateCommentOwner(comment, member);
 
         comment.updateContent(commentUpdateReqDto.content());
+        boardSummaryService.increaseCommentVersion(comment.getBoard().getBoardId());
         return CommentResDto.from(comment);
     }
 
@@ -83,8 +115,16 @@ public class CommentService {
 
         if (!comment.getChildren().isEmpty()) { // 자식이 있으면 상태만 변경
             comment.changeIsDeleted(true);
+            boardSummaryService.increaseCommentVersion(comment.getBoard().getBoardId());
         } else { // 삭제 가능한 조상 댓글을 구해서 삭제
-            commentRepository.delete(getDeletableAncestorComment(comment));
+            Comment deletableComment = getDeletableAncestorComment(comment);
+            commentRepository.delete(deletableComment);
+            // 지워지는 댓글 아래 답글은 함께 지워지므로 남아 있는 부모의 답글 수만 줄인다
+            if (deletableComment.getParent() != null) {
+                commentRepository.decreaseReplyCount(deletableComment.getParent().getCommentId());
+            }
+            boardSummaryService.refreshCommentCount(comment.getBoard().getBoardId());
+            eventPublisher.publishEvent(new BoardCountChangedEvent(comment.getBoard().getBoardId()));
         }
     }
 
@@ -104,8 +144,34 @@ public class CommentService {
         }
     }
 
+    // 댓글 목록 버전, 등록 응답의 threadVersion과 같은 값이다. 목록보다 먼저 읽으므로 목록은 이 버전 이후의 변경을 담을 수 있다
+    public long threadVersion(Long boardId) {
+        return boardSummaryService.commentVersionOf(boardId);
+    }
+
+    // 댓글 목록 ETag, 바뀐 게 없으면 목록을 조회하지 않고 304로 응답한다
+    public String commentsETag(Long boardId, long threadVersion) {
+        return boardETags.comments(boardId, threadVersion);
+    }
+
     public Page<CommentResDto> getCommentsByBoard(Long boardId, Pageable pageable) {
         return commentRepository.findByBoardBoardId(boardId, pageable); //PageRequest.of(page, size)
     }
 
+    // 최상위 댓글 커서 조회, 답글은 포함하지 않는다
+    public CommentCursorRspDto getCommentsByCursor(Long boardId, String cursor, Pageable pageable) {
+        return CommentCursorRspDto.of(
+                commentRepository.findParentsByCursor(boardId, CommentCursor.decode(cursor), pageable));
+    }
+
+    // 답글 더보기
+    public CommentCursorRspDto getReplies(Long commentId, String cursor, Pageable pageable) {
+        if (!commentRepository.existsById(commentId)) {
+            throw new CommentNotFoundException(commentId);
+        }
+
+        return CommentCursorRspDto.of(
+                commentRepository.findRepliesByCursor(commentId, CommentCursor.decode(cursor), pageable));
+    }
+
 }
\ No newline at end of file
@@ -10,9 +10,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AccessLevel;
@@ -24,6 +26,11 @@ import org.hibernate.annotations.DynamicInsert;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(indexes = { // 커서 조회 정렬 순서(작성 시각, id)와 같은 순서
+        @Index(name = "idx_comment_board_parent_create", columnList = "board_id, parent_id, create_at, comment_id"),
+        @Index(name = "idx_comment_parent_create", columnList = "parent_id, create_at, comment_id"),
+        @Index(name = "idx_comment_root_create", columnList = "root_id, create_at, comment_id")
+})
 @DynamicInsert//Hibernate의 어노테이션으로, insert SQL을 실행할 때 null인 필드를 제외합니다. 이를 통해 SQL을 최적화할 수 있습니다.
 public class Comment extends BaseTimeEntity {
 
@@ -45,11 +52,20 @@ public class Comment extends BaseTimeEntity {
     @JoinColumn(name = "member_id")
     private Member writer;
 
+    // 바로 아래 답글 수, 답글 목록을 더 불러올지 판단하는 데 쓴다
+    @Column(columnDefinition = "int default 0")
+    @Schema(description = "답글 수", example = "3")
+    private int replyCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id")
     @Schema(description = "부모 댓글 id", example = "1")
     private Comment parent;
 
+    // 답글이 속한 최상위 댓글 id, 최상위 댓글은 null. 목록 한 페이지의 모든 하위 답글을 한 번에 읽는 데 쓴다
+    @Column(name = "root_id")
+    private Long rootId;
+
     @OneToMany(mappedBy = "parent", orphanRemoval = true)
     private List<Comment> children = new ArrayList<>();
 
@@ -64,6 +80,11 @@ public class Comment extends BaseTimeEntity {
         this.writer = writer;
         this.board = board;
         this.parent = parent;
+        this.rootId = parent == null ? null : parent.threadRootId();
+    }
+
+    private Long threadRootId() {
+        return rootId == null ? commentId : rootId;
     }
 
     public void changeIsDeleted(Boolean isDeleted) {
@@ -0,0 +1,7 @@
+package com.example.copro.comment.domain.repository;
+
+public interface BoardCommentCount {
+    Long getBoardId();
+
+    Long getCommentCount();
+}
@@ -2,13 +2,19 @@ package com.example.copro.comment.domain.repository;
 
 import com.example.copro.comment.api.dto.response.CommentResDto;
 import com.example.copro.comment.domain.Comment;
+import com.example.copro.comment.util.CommentCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.Optional;
 
 public interface CommentCustomRepository {
     Page<CommentResDto> findByBoardBoardId(Long boardId, Pageable pageable);
 
+    Slice<CommentResDto> findParentsByCursor(Long boardId, CommentCursor cursor, Pageable pageable);
+
+    Slice<CommentResDto> findRepliesByCursor(Long parentId, CommentCursor cursor, Pageable pageable);
+
     Optional<Comment> findCommentByCommentIdWithParent(Long id);
 }
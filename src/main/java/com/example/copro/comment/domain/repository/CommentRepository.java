@@ -4,7 +4,11 @@ import com.example.copro.comment.domain.Comment;
 import com.example.copro.member.domain.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +16,16 @@ public interface CommentRepository extends JpaRepository<Comment,Long>, CommentC
     Page<Comment> findByWriter(Member member, Pageable pageable);
     int countByBoardBoardId(Long boardId);
 
+    @Modifying
+    @Query("update Comment c set c.replyCount = c.replyCount + 1 where c.commentId = :commentId")
+    int increaseReplyCount(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("update Comment c set c.replyCount = c.replyCount - 1 where c.commentId = :commentId and c.replyCount > 0")
+    int decreaseReplyCount(@Param("commentId") Long commentId);
+
+    @Query("select c.board.boardId as boardId, count(c) as commentCount from Comment c "
+            + "where c.board.boardId in :boardIds group by c.board.boardId")
+    List<BoardCommentCount> countByBoardIdIn(@Param("boardIds") List<Long> boardIds);
+
 }
@@ -5,17 +5,23 @@ import static com.example.copro.comment.domain.QComment.comment;
 
 import com.example.copro.comment.api.dto.response.CommentResDto;
 import com.example.copro.comment.domain.Comment;
+import com.example.copro.comment.util.CommentCursor;
+import com.example.copro.global.util.LongObjectMap;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Deque;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 @RequiredArgsConstructor
@@ -24,40 +30,114 @@ public class CommentRepositoryImpl implements CommentCustomRepository{
 
     private final JPAQueryFactory queryFactory;
 
+    // 페이지의 최상위 댓글 한 번 + 그 아래 답글 한 번(작성자 fetch join), 트리는 메모리에서 만든다
+    // 전체 개수는 마지막 페이지처럼 개수를 알 수 있으면 조회하지 않는다
     @Override
     public Page<CommentResDto> findByBoardBoardId(Long boardId, Pageable pageable) {
-        long total = queryFactory.selectFrom(comment)
-                .where(comment.board.boardId.eq(boardId), comment.parent.isNull())
-                .fetchCount();
-
-        // QueryDSL을 사용해서 comment 테이블에서 데이터를 조회
-        // 특정 게시판(boardId)의 댓글만 가져오며, 부모 댓글과 함께 가져옴
-        // 댓글의 부모 ID를 오름차순으로 정렬하고, 같은 부모 ID를 가진 댓글 중에서는 생성 시간 기준으로 오름차순 정렬
         List<Comment> parentComments = queryFactory.selectFrom(comment)
+                .leftJoin(comment.writer).fetchJoin() // 작성자 지연 로딩 방지
                 .where(comment.board.boardId.eq(boardId), comment.parent.isNull())
-                .orderBy(comment.createAt.asc())
+                .orderBy(comment.createAt.asc(), comment.commentId.asc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        List<CommentResDto> commentResDtoList = new ArrayList<>();
+        List<CommentResDto> commentResDtoList = parentComments.isEmpty()
+                ? List.of()
+                : buildThreads(parentComments, findReplies(parentComments));
+
+        return PageableExecutionUtils.getPage(commentResDtoList, pageable, () -> queryFactory
+                .select(comment.count())
+                .from(comment)
+                .where(comment.board.boardId.eq(boardId), comment.parent.isNull())
+                .fetchOne());
+    }
+
+    // 이 페이지 최상위 댓글 아래의 답글만 읽는다(root_id 인덱스)
+    private List<Comment> findReplies(List<Comment> parentComments) {
+        List<Long> rootIds = parentComments.stream()
+                .map(Comment::getCommentId)
+                .toList();
+
+        return queryFactory.selectFrom(comment)
+                .leftJoin(comment.writer).fetchJoin()
+                .where(comment.rootId.in(rootIds))
+                .orderBy(comment.createAt.asc(), comment.commentId.asc())
+                .fetch();
+    }
+
+    // 부모 id별로 답글을 묶은 뒤 최상위 댓글부터 내려가며 children을 채운다. 답글마다 한 번씩만 방문한다.
+    private List<CommentResDto> buildThreads(List<Comment> parentComments, List<Comment> replies) {
+        LongObjectMap<List<Comment>> repliesByParentId = new LongObjectMap<>(replies.size());
+        for (Comment reply : replies) {
+            // 부모 프록시의 id만 읽으므로 부모를 조회하지 않는다
+            repliesByParentId.computeIfAbsent(reply.getParent().getCommentId(), parentId -> new ArrayList<>()).add(reply);
+        }
 
+        List<CommentResDto> commentResDtoList = new ArrayList<>(parentComments.size());
+        Deque<CommentResDto> pending = new ArrayDeque<>();
         for (Comment parentComment : parentComments) {
             CommentResDto parentCommentResDto = from(parentComment);
             commentResDtoList.add(parentCommentResDto);
+            pending.push(parentCommentResDto);
 
-            List<Comment> childComments = queryFactory.selectFrom(comment)
-                    .where(comment.parent.eq(parentComment))
-                    .orderBy(comment.createAt.asc())
-                    .fetch();
-
-            for (Comment childComment : childComments) {
-                CommentResDto childCommentResDto = from(childComment);
-                parentCommentResDto.getChildren().add(childCommentResDto);
+            while (!pending.isEmpty()) {
+                CommentResDto commentResDto = pending.pop();
+                List<Comment> children = repliesByParentId.get(commentResDto.getCommentId());
+                if (children == null) {
+                    continue;
+                }
+                for (Comment child : children) {
+                    CommentResDto childCommentResDto = from(child);
+                    commentResDto.getChildren().add(childCommentResDto);
+                    pending.push(childCommentResDto);
+                }
             }
         }
 
-        return new PageImpl<>(commentResDtoList, pageable, total);
+        return commentResDtoList;
+    }
+
+    // 최상위 댓글만 커서 이후부터 조회, 답글은 replyCount를 보고 /replies로 따로 불러온다
+    @Override
+    public Slice<CommentResDto> findParentsByCursor(Long boardId, CommentCursor cursor, Pageable pageable) {
+        return findByCursor(comment.board.boardId.eq(boardId).and(comment.parent.isNull()), cursor, pageable);
+    }
+
+    // 바로 아래 답글만 커서 이후부터 조회
+    @Override
+    public Slice<CommentResDto> findRepliesByCursor(Long parentId, CommentCursor cursor, Pageable pageable) {
+        return findByCursor(comment.parent.commentId.eq(parentId), cursor, pageable);
+    }
+
+    // 전체 개수는 세지 않고 size + 1개로 다음 페이지 여부만 판단, 커서 뒤에 새 댓글이 달려도 앞 페이지가 밀리지 않는다
+    private Slice<CommentResDto> findByCursor(BooleanExpression condition, CommentCursor cursor, Pageable pageable) {
+        List<CommentResDto> results = queryFactory.selectFrom(comment)
+                .leftJoin(comment.writer).fetchJoin()
+                .where(condition, afterCursor(cursor))
+                .orderBy(comment.createAt.asc(), comment.commentId.asc())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch()
+                .stream()
+                .map(CommentResDto::from)
+                .collect(Collectors.toList());
+
+        boolean hasNext = results.size() > pageable.getPageSize();
+        if (hasNext) {
+            results = results.subList(0, pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(results, pageable, hasNext);
+    }
+
+    // (createAt, commentId) 기준으로 커서보다 뒤에 있는 댓글
+    private BooleanExpression afterCursor(CommentCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return comment.createAt.gt(cursor.createAt())
+                .or(comment.createAt.eq(cursor.createAt()).and(comment.commentId.gt(cursor.commentId())));
     }
 
     @Override
@@ -0,0 +1,47 @@
+package com.example.copro.comment.util;
+
+import com.example.copro.board.exception.InvalidCursorException;
+import com.example.copro.comment.api.dto.response.CommentResDto;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 댓글, 답글 커서 기반 페이지네이션에서 마지막으로 내려준 댓글의 위치(작성 시각 오름차순).
+ * 클라이언트에는 Base64로 인코딩한 불투명한 문자열로만 전달한다.
+ */
+public record CommentCursor(
+        LocalDateTime createAt,
+        long commentId
+) {
+    private static final String DELIMITER = "|";
+
+    public static CommentCursor of(CommentResDto commentResDto) {
+        return new CommentCursor(commentResDto.getCreateAt(), commentResDto.getCommentId());
+    }
+
+    public String encode() {
+        String raw = createAt + DELIMITER + commentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 커서는 첫 페이지를 의미한다.
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 2) {
+                throw new InvalidCursorException();
+            }
+
+            return new CommentCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.copro.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // 게시물 목록 캐시 재구성용, 요청 스레드와 분리한다
+    @Bean
+    public ThreadPoolTaskExecutor boardCacheExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("board-cache-");
+        executor.initialize();
+        return executor;
+    }
+}
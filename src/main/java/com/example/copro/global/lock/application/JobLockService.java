@@ -0,0 +1,77 @@
+package com.example.copro.global.lock.application;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * job_lock 테이블을 이용한 스케줄 작업 임대(lease) 잠금. 여러 서버 중 먼저 잡은 한 곳만 작업을 실행한다.
+ * 시각은 서버마다 다를 수 있어 DB 시각(now(3))으로만 비교한다.
+ * 실행 서버가 죽어도 lockAtMostFor가 지나면 다른 서버가 다시 잡을 수 있고,
+ * lockAtLeastFor 동안은 작업이 빨리 끝나도 잠금을 유지해 시계가 조금 늦은 서버가 같은 작업을 다시 실행하지 않게 한다.
+ */
+@Slf4j
+@Service
+public class JobLockService {
+    private static final String ACQUIRE_EXPIRED = """
+            update job_lock set locked_until = timestampadd(microsecond, ?, now(3)), locked_at = now(3), locked_by = ?
+            where name = ? and locked_until <= now(3)
+            """;
+    private static final String ACQUIRE_NEW = """
+            insert ignore into job_lock (name, locked_until, locked_at, locked_by)
+            values (?, timestampadd(microsecond, ?, now(3)), now(3), ?)
+            """;
+    private static final String RELEASE = """
+            update job_lock set locked_until = greatest(timestampadd(microsecond, ?, locked_at), now(3))
+            where name = ? and locked_by = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    // 잠금은 작업 트랜잭션과 상관없이 바로 커밋한다
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeName = ManagementFactory.getRuntimeMXBean().getName();
+
+    public JobLockService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 잠금을 잡은 경우에만 task를 실행하고 true를 돌려준다
+    public boolean runLocked(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        if (!tryLock(name, lockAtMostFor)) {
+            log.debug("{} 작업은 다른 서버가 실행 중입니다.", name);
+            return false;
+        }
+
+        try {
+            task.run();
+            return true;
+        } finally {
+            release(name, lockAtLeastFor);
+        }
+    }
+
+    private boolean tryLock(String name, Duration lockAtMostFor) {
+        long micros = lockAtMostFor.toNanos() / 1_000;
+        Boolean locked = transactionTemplate.execute(status ->
+                jdbcTemplate.update(ACQUIRE_EXPIRED, micros, nodeName, name) == 1
+                        || jdbcTemplate.update(ACQUIRE_NEW, name, micros, nodeName) == 1);
+        return Boolean.TRUE.equals(locked);
+    }
+
+    private void release(String name, Duration lockAtLeastFor) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.update(RELEASE, lockAtLeastFor.toNanos() / 1_000, name, nodeName));
+        } catch (RuntimeException e) {
+            // 풀지 못해도 lockAtMostFor가 지나면 풀린다
+            log.error("{} 작업 잠금 해제 실패", name, e);
+        }
+    }
+}
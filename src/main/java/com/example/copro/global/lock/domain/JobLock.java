@@ -0,0 +1,31 @@
+package com.example.copro.global.lock.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 스케줄 작업 실행권. locked_until이 지나기 전까지는 locked_by 서버만 작업을 실행한다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "job_lock")
+public class JobLock {
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false, columnDefinition = "datetime(3)")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_at", nullable = false, columnDefinition = "datetime(3)")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+}
@@ -0,0 +1,135 @@
+package com.example.copro.global.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 시간이 지날수록 지수적으로 줄어드는 점수 상위 capacity개만 들고 있는 집합.
+ * 점수를 매번 깎지 않도록 기준 시각(epoch) 기준 값으로 저장한다: 시각 t에 더하는 가중치 w는 w * e^(λ(t - epoch))로 넣고,
+ * 읽을 때 e^(-λ(now - epoch))를 곱한다. 모든 항목이 같은 비율로 줄어드므로 저장된 값의 순서가 곧 현재 순위다.
+ *
+ * 꽉 찬 상태에서 새 id가 들어오면 가장 낮은 항목을 내보내고 그 점수를 이어받는다(Space-Saving).
+ * 자주 들어오는 id는 반드시 남고, 이어받은 점수만큼 높게 잡힐 수 있으므로 보여줄 개수보다 넉넉하게 잡는다.
+ * 동기화는 하지 않는다.
+ */
+public class DecayedTopK {
+    // e^REBASE_EXPONENT를 넘으면 기준 시각을 옮겨 double 범위를 벗어나지 않게 한다
+    private static final double REBASE_EXPONENT = 50;
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble((Entry entry) -> entry.value)
+            .thenComparingLong(entry -> entry.id);
+
+    private final int capacity;
+    private final double lambda;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TreeSet<Entry> ranking = new TreeSet<>(ORDER);
+    private long epoch;
+
+    public DecayedTopK(int capacity, long halfLifeMillis, long now) {
+        this.capacity = capacity;
+        this.lambda = Math.log(2) / halfLifeMillis;
+        this.epoch = now;
+    }
+
+    /**
+     * id에 now 시점의 가중치 weight를 더한다. 음수는 이미 들고 있는 항목만 줄이고 0 아래로는 내려가지 않는다.
+     * 자리를 비우려고 내보낸 id가 있으면 돌려준다.
+     */
+    public Long add(long id, double weight, long now) {
+        double value = weight * growth(now);
+        Entry entry = entries.get(id);
+        if (entry != null) {
+            ranking.remove(entry);
+            entry.value = Math.max(0, entry.value + value);
+            ranking.add(entry);
+            return null;
+        }
+        if (weight <= 0) {
+            return null;
+        }
+
+        Long evicted = null;
+        double base = 0;
+        if (entries.size() >= capacity) {
+            Entry lowest = ranking.pollFirst();
+            entries.remove(lowest.id);
+            evicted = lowest.id;
+            base = lowest.value;
+        }
+
+        entry = new Entry(id, base + value);
+        entries.put(id, entry);
+        ranking.add(entry);
+        return evicted;
+    }
+
+    public void remove(long id) {
+        Entry entry = entries.remove(id);
+        if (entry != null) {
+            ranking.remove(entry);
+        }
+    }
+
+    public boolean contains(long id) {
+        return entries.containsKey(id);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 점수 높은 순으로 limit개, 점수는 now 시점으로 줄인 값
+    public List<Scored> top(int limit, long now) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        double decay = Math.exp(-lambda * (now - epoch));
+        List<Scored> top = new ArrayList<>(Math.min(limit, entries.size()));
+        for (Entry entry : ranking.descendingSet()) {
+            if (top.size() == limit) {
+                break;
+            }
+            top.add(new Scored(entry.id, entry.value * decay));
+        }
+        return top;
+    }
+
+    private double growth(long now) {
+        double exponent = lambda * (now - epoch);
+        if (exponent > REBASE_EXPONENT) {
+            rebase(now);
+            exponent = 0;
+        }
+        return Math.exp(exponent);
+    }
+
+    // 기준 시각을 now로 옮긴다. 모든 값에 같은 비율을 곱하지만 아주 작은 값끼리 순서가 바뀔 수 있어 정렬을 다시 한다.
+    private void rebase(long now) {
+        double scale = Math.exp(-lambda * (now - epoch));
+        ranking.clear();
+        for (Entry entry : entries.values()) {
+            entry.value *= scale;
+            ranking.add(entry);
+        }
+        epoch = now;
+    }
+
+    public record Scored(
+            long id,
+            double score
+    ) {
+    }
+
+    private static class Entry {
+        private final long id;
+        private double value;
+
+        Entry(long id, double value) {
+            this.id = id;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.copro.global.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 한글 음절을 자모로 분해하거나 초성만 뽑아낸다. 공백, 기호는 버리고 영문은 소문자로 맞춘다.
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class Hangul {
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char CONSONANT_BEGIN = 'ㄱ';
+    private static final char CONSONANT_END = 'ㅎ';
+    private static final char VOWEL_END = 'ㅣ';
+
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    // 겹모음, 겹받침은 입력 중인 글자와도 맞도록 홑자모로 나눈다 (ㅘ -> ㅗㅏ, ㄳ -> ㄱㅅ)
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+            "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 호환 자모(ㄱ~ㅣ)를 홑자모로 나눈 값
+    private static final String[] COMPATIBILITY_JAMO = new String[VOWEL_END - CONSONANT_BEGIN + 1];
+
+    static {
+        String compounds = "ㄳㄱㅅ ㄵㄴㅈ ㄶㄴㅎ ㄺㄹㄱ ㄻㄹㅁ ㄼㄹㅂ ㄽㄹㅅ ㄾㄹㅌ ㄿㄹㅍ ㅀㄹㅎ ㅄㅂㅅ "
+                + "ㅘㅗㅏ ㅙㅗㅐ ㅚㅗㅣ ㅝㅜㅓ ㅞㅜㅔ ㅟㅜㅣ ㅢㅡㅣ";
+        for (char c = CONSONANT_BEGIN; c <= VOWEL_END; c++) {
+            COMPATIBILITY_JAMO[c - CONSONANT_BEGIN] = String.valueOf(c);
+        }
+        for (String compound : compounds.split(" ")) {
+            COMPATIBILITY_JAMO[compound.charAt(0) - CONSONANT_BEGIN] = compound.substring(1);
+        }
+    }
+
+    // "프로젝트" -> "ㅍㅡㄹㅗㅈㅔㄱㅌㅡ"
+    public static String decompose(String text) {
+        String normalized = normalize(text);
+        StringBuilder jamo = new StringBuilder(normalized.length() * 3);
+
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                jamo.append(CHOSEONG[index / 588])
+                        .append(JUNGSEONG[index % 588 / 28])
+                        .append(JONGSEONG[index % 28]);
+            } else if (isJamo(c)) {
+                jamo.append(COMPATIBILITY_JAMO[c - CONSONANT_BEGIN]);
+            } else {
+                jamo.append(c);
+            }
+        }
+
+        return jamo.toString();
+    }
+
+    // "프로젝트 팀원" -> "ㅍㄹㅈㅌㅌㅇ"
+    public static String choseong(String text) {
+        String normalized = normalize(text);
+        StringBuilder choseong = new StringBuilder(normalized.length());
+
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            choseong.append(isSyllable(c) ? CHOSEONG[(c - SYLLABLE_BEGIN) / 588] : c);
+        }
+
+        return choseong.toString();
+    }
+
+    // 한글은 자음만으로 이루어진 검색어 ("ㅍㄹㅈㅌ", "ㅂㅇㄷ 3")
+    public static boolean isChoseongQuery(String query) {
+        String normalized = normalize(query);
+        boolean hasConsonant = false;
+
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isSyllable(c) || (isJamo(c) && c > CONSONANT_END)) {
+                return false;
+            }
+            hasConsonant |= isJamo(c);
+        }
+
+        return hasConsonant;
+    }
+
+    // 완성되지 않은 글자(낱자모)가 섞인 검색어
+    public static boolean containsJamo(String text) {
+        return text != null && text.chars().anyMatch(c -> isJamo((char) c));
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        // NFKC는 호환 자모(ㄱ)를 첫가끝 자모(ᄀ)로 바꿔 버리므로 NFC만 적용한다
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    private static boolean isJamo(char c) {
+        return c >= CONSONANT_BEGIN && c <= VOWEL_END;
+    }
+}
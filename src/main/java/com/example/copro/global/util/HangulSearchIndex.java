@@ -0,0 +1,339 @@
+package com.example.copro.global.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 초성, 자모 단위 부분 일치 검색 색인. id별 문자열(게시물 제목, 닉네임 등)을 자모로 분해한 값과 초성만 뽑은 값을 따로 색인한다.
+ * "ㅍㄹㅈㅌ"처럼 자음만 입력하면 초성 색인을, "프로ㅈ", "프롲"처럼 입력 중인 글자가 섞이면 자모 색인을 사용한다.
+ *
+ * 각 색인은 n-gram posting으로 후보를 좁힌 뒤 원문 포함 여부로 확인하므로 LIKE '%검색어%'와 같은 결과를 돌려준다.
+ * 짧은 검색어도 posting 하나로 찾도록 1~n 길이를 모두 색인하므로 posting은 n-gram만 색인할 때보다 2~3배 크다.
+ * 결과는 id 내림차순(최신순)이다.
+ */
+public class HangulSearchIndex {
+    private static final int JAMO_GRAM = 3;
+    private static final int CHOSEONG_GRAM = 2;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final GramIndex jamo = new GramIndex(JAMO_GRAM);
+    private final GramIndex choseong = new GramIndex(CHOSEONG_GRAM);
+
+    public void put(long id, String text) {
+        String decomposed = Hangul.decompose(text);
+        String initials = Hangul.choseong(text);
+
+        lock.writeLock().lock();
+        try {
+            jamo.put(id, decomposed);
+            choseong.put(id, initials);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            jamo.remove(id);
+            choseong.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return jamo.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Result search(String query, int offset, int limit) {
+        boolean choseongQuery = Hangul.isChoseongQuery(query);
+        String projected = choseongQuery ? Hangul.choseong(query) : Hangul.decompose(query);
+        if (projected.isEmpty()) {
+            return new Result(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            return (choseongQuery ? choseong : jamo).search(projected, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public record Result(
+            List<Long> ids,
+            long total
+    ) {
+    }
+
+    // 한 가지 투영(자모 또는 초성)에 대한 n-gram 색인. 수정, 삭제된 문서는 삭제 표시 후 모아서 정리한다.
+    private static class GramIndex {
+        private final int gram;
+        private final Map<String, IntList> postings = new HashMap<>();
+        private final Map<Long, Integer> docById = new HashMap<>();
+        private long[] ids = new long[1024];
+        private String[] texts = new String[1024];
+        private BitSet deleted = new BitSet();
+        private int docCount;
+        private int deletedCount;
+
+        GramIndex(int gram) {
+            this.gram = gram;
+        }
+
+        int size() {
+            return docById.size();
+        }
+
+        void put(long id, String text) {
+            remove(id);
+
+            int doc = docCount++;
+            if (docCount > ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+                texts = Arrays.copyOf(texts, texts.length * 2);
+            }
+            ids[doc] = id;
+            texts[doc] = text;
+            docById.put(id, doc);
+
+            for (String key : indexGrams(text)) {
+                postings.computeIfAbsent(key, k -> new IntList()).add(doc);
+            }
+        }
+
+        void remove(long id) {
+            Integer doc = docById.remove(id);
+            if (doc == null) {
+                return;
+            }
+
+            deleted.set(doc);
+            texts[doc] = null;
+            if (++deletedCount > Math.max(1_000, size() / 5)) {
+                compact();
+            }
+        }
+
+        Result search(String query, int offset, int limit) {
+            TopIds top = new TopIds((int) Math.min((long) offset + limit, size()));
+            int total = 0;
+
+            // gram 이하 길이의 검색어는 그 자체가 색인된 key이므로 posting이 곧 결과다
+            if (query.length() <= gram) {
+                IntList list = postings.get(query);
+                for (int i = list == null ? -1 : list.size - 1; i >= 0; i--) {
+                    int doc = list.values[i];
+                    if (!deleted.get(doc)) {
+                        total++;
+                        top.offer(ids[doc]);
+                    }
+                }
+                return top.page(offset, total);
+            }
+
+            List<IntList> lists = new ArrayList<>();
+            for (String key : queryGrams(query)) {
+                IntList list = postings.get(key);
+                if (list == null) {
+                    return new Result(List.of(), 0);
+                }
+                lists.add(list);
+            }
+            lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+            // 문서 번호는 대부분 id 순이라 뒤에서부터 훑으면 힙이 금방 차고 이후 문서는 비교 한 번으로 걸러진다.
+            // 다른 posting은 내려가기만 하는 끝 위치(ends) 안에서만 찾는다.
+            IntList smallest = lists.get(0);
+            int[] ends = new int[lists.size()];
+            for (int j = 1; j < lists.size(); j++) {
+                ends[j] = lists.get(j).size;
+            }
+            for (int i = smallest.size - 1; i >= 0; i--) {
+                int doc = smallest.values[i];
+                if (!deleted.get(doc) && containsAll(lists, ends, doc) && texts[doc].contains(query)) {
+                    total++;
+                    top.offer(ids[doc]);
+                }
+            }
+
+            return top.page(offset, total);
+        }
+
+        private boolean containsAll(List<IntList> lists, int[] ends, int doc) {
+            for (int j = 1; j < lists.size(); j++) {
+                int index = searchBefore(lists.get(j).values, ends[j], doc);
+                if (index < 0) {
+                    ends[j] = -index - 1;
+                    return false;
+                }
+                ends[j] = index;
+            }
+            return true;
+        }
+
+        // 찾는 값은 대개 직전 위치 바로 앞에 있으므로 끝에서부터 간격을 두 배씩 늘려 범위를 잡고 이진 탐색한다
+        private int searchBefore(int[] values, int end, int doc) {
+            if (end == 0) {
+                return -1;
+            }
+            int high = end;
+            int low = end - 1;
+            for (int step = 1; low > 0 && values[low] > doc; step <<= 1) {
+                high = low;
+                low = Math.max(low - step, 0);
+            }
+            return Arrays.binarySearch(values, low, high, doc);
+        }
+
+        // 색인용: 1~gram 길이의 모든 gram. 짧은 검색어도 전체를 훑지 않고 posting 하나로 찾는다.
+        private Set<String> indexGrams(String text) {
+            Set<String> keys = new LinkedHashSet<>();
+            for (int n = 1; n <= gram; n++) {
+                for (int i = 0; i + n <= text.length(); i++) {
+                    keys.add(text.substring(i, i + n));
+                }
+            }
+            return keys;
+        }
+
+        private Set<String> queryGrams(String query) {
+            Set<String> keys = new LinkedHashSet<>();
+            for (int i = 0; i + gram <= query.length(); i++) {
+                keys.add(query.substring(i, i + gram));
+            }
+            return keys;
+        }
+
+        private void compact() {
+            int[] remap = new int[docCount];
+            long[] newIds = new long[Math.max(1024, size() * 2)];
+            String[] newTexts = new String[newIds.length];
+            int next = 0;
+
+            for (int doc = 0; doc < docCount; doc++) {
+                if (deleted.get(doc)) {
+                    remap[doc] = -1;
+                    continue;
+                }
+                remap[doc] = next;
+                newIds[next] = ids[doc];
+                newTexts[next] = texts[doc];
+                docById.put(ids[doc], next);
+                next++;
+            }
+
+            postings.values().removeIf(list -> list.remap(remap) == 0);
+
+            ids = newIds;
+            texts = newTexts;
+            docCount = next;
+            deleted = new BitSet();
+            deletedCount = 0;
+        }
+    }
+
+    // 오름차순으로 쌓이는 문서 번호 목록
+    private static class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int remap(int[] remap) {
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int value = remap[values[i]];
+                if (value >= 0) {
+                    values[next++] = value;
+                }
+            }
+            size = next;
+            return size;
+        }
+    }
+
+    // 큰 id부터 capacity개만 남기는 최소 힙
+    private static class TopIds {
+        private final long[] heap;
+        private int size;
+
+        TopIds(int capacity) {
+            this.heap = new long[Math.max(capacity, 0)];
+        }
+
+        void offer(long id) {
+            if (size < heap.length) {
+                heap[size] = id;
+                siftUp(size++);
+            } else if (size > 0 && id > heap[0]) {
+                heap[0] = id;
+                siftDown(0);
+            }
+        }
+
+        Result page(int offset, int total) {
+            long[] sorted = Arrays.copyOf(heap, size);
+            Arrays.sort(sorted);
+
+            List<Long> page = new ArrayList<>();
+            for (int i = sorted.length - 1 - offset; i >= 0; i--) {
+                page.add(sorted[i]);
+            }
+            return new Result(page, total);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (heap[parent] <= heap[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = index * 2 + 1;
+                if (left < size && heap[left] < heap[smallest]) {
+                    smallest = left;
+                }
+                if (left + 1 < size && heap[left + 1] < heap[smallest]) {
+                    smallest = left + 1;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            long value = heap[i];
+            heap[i] = heap[j];
+            heap[j] = value;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.copro.global.util;
+
+/**
+ * 서로 다른 값의 개수를 고정 크기(2^PRECISION 바이트)로 추정하는 HyperLogLog. 표준 오차는 약 2.3%.
+ * 레지스터 배열을 그대로 저장하고, 여러 인스턴스의 값은 merge(레지스터별 최댓값)로 합친다.
+ */
+public class HyperLogLog {
+    private static final int PRECISION = 11;
+    public static final int REGISTER_COUNT = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(new byte[REGISTER_COUNT]);
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    // 저장해 둔 레지스터로 복원, 형식이 다르면 빈 sketch
+    public static HyperLogLog of(byte[] registers) {
+        if (registers == null || registers.length != REGISTER_COUNT) {
+            return new HyperLogLog();
+        }
+        return new HyperLogLog(registers.clone());
+    }
+
+    public synchronized void offer(long value) {
+        long hash = mix(value);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // 남은 비트의 선행 0 개수 + 1, 모두 0이어도 넘치지 않도록 마지막 비트를 세운다
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    public synchronized void merge(HyperLogLog other) {
+        byte[] otherRegisters = other.toByteArray();
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (otherRegisters[i] > registers[i]) {
+                registers[i] = otherRegisters[i];
+            }
+        }
+    }
+
+    public synchronized long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        // 적은 수에서는 선형 계수(linear counting)가 더 정확하다
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public synchronized byte[] toByteArray() {
+        return registers.clone();
+    }
+
+    // SplitMix64 finalizer, 연속된 id도 고르게 퍼뜨린다
+    public static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.copro.global.util;
+
+import java.util.function.LongFunction;
+
+/**
+ * long 키 전용 해시 맵. 키를 원시 배열에 선형 탐사(open addressing)로 담아 Long 박싱과 Entry 객체를 만들지 않는다.
+ * 삭제는 지원하지 않는다. 요청 하나 안에서 쓰고 버리는 조회용이며 동기화는 하지 않는다.
+ */
+public class LongObjectMap<V> {
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Object[] values;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    public LongObjectMap() {
+        this(16);
+    }
+
+    public LongObjectMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int index = indexOf(key);
+        return used[index] ? (V) values[index] : null;
+    }
+
+    public V put(long key, V value) {
+        int index = indexOf(key);
+        if (used[index]) {
+            @SuppressWarnings("unchecked")
+            V previous = (V) values[index];
+            values[index] = value;
+            return previous;
+        }
+
+        insert(index, key, value);
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(long key, LongFunction<V> mapping) {
+        int index = indexOf(key);
+        if (used[index]) {
+            return (V) values[index];
+        }
+
+        V value = mapping.apply(key);
+        insert(index, key, value);
+        return value;
+    }
+
+    public boolean containsKey(long key) {
+        return used[indexOf(key)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void insert(int index, long key, Object value) {
+        keys[index] = key;
+        values[index] = value;
+        used[index] = true;
+        if (++size > keys.length * LOAD_FACTOR) {
+            rehash();
+        }
+    }
+
+    // key가 있는 칸, 없으면 넣을 빈 칸
+    private int indexOf(long key) {
+        int index = (int) HyperLogLog.mix(key) & mask;
+        while (used[index] && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        boolean[] oldUsed = used;
+
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                used[index] = true;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.copro.global.util;
+
+import java.util.Arrays;
+
+/**
+ * 음이 아닌 long id 집합을 압축해서 담는 Roaring 방식 비트맵. 상위 비트(value >>> 16)별로 묶고,
+ * 묶음 안의 하위 16비트는 개수가 적으면 정렬된 char 배열, ARRAY_MAX개를 넘으면 65536비트 비트맵으로 담는다.
+ * 게시물 id처럼 대부분 가까이 모여 있는 값은 id당 2바이트 정도만 쓰고, 박싱 없이 원시 배열만 사용한다.
+ * 동기화는 하지 않는다.
+ */
+public class RoaringBitmap {
+    private static final int ARRAY_MAX = 4_096;
+
+    private long[] keys = new long[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    public static RoaringBitmap of(long[] values) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (long value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    public boolean add(long value) {
+        long key = value >>> 16;
+        char low = (char) value;
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new ArrayContainer());
+        }
+
+        Container container = containers[index];
+        if (container.contains(low)) {
+            return false;
+        }
+        containers[index] = container.add(low);
+        return true;
+    }
+
+    public boolean remove(long value) {
+        int index = Arrays.binarySearch(keys, 0, size, value >>> 16);
+        if (index < 0) {
+            return false;
+        }
+
+        Container container = containers[index];
+        char low = (char) value;
+        if (!container.contains(low)) {
+            return false;
+        }
+        container = container.remove(low);
+        if (container.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = container;
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        int index = Arrays.binarySearch(keys, 0, size, value >>> 16);
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    private void insertContainer(int index, long key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    private interface Container {
+        boolean contains(char value);
+
+        // 바뀐 컨테이너를 돌려준다(크기에 따라 배열 <-> 비트맵 전환)
+        Container add(char value);
+
+        Container remove(char value);
+
+        int cardinality();
+    }
+
+    // 정렬된 하위 16비트 값 목록
+    private static class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int cardinality;
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(value);
+            }
+
+            int index = -Arrays.binarySearch(values, 0, cardinality, value) - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, cardinality * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            return this;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    // 65536비트 비트맵
+    private static class BitmapContainer implements Container {
+        private final long[] words = new long[1 << 10];
+        private int cardinality;
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            words[value >>> 6] |= 1L << value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            words[value >>> 6] &= ~(1L << value);
+            if (--cardinality > ARRAY_MAX) {
+                return this;
+            }
+
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[cardinality];
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    array.values[array.cardinality++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return array;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+    }
+}
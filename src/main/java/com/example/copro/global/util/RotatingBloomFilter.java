@@ -0,0 +1,84 @@
+package com.example.copro.global.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 window 동안 본 값인지 확인하는 Bloom filter. window를 generations개 구간으로 나눠 구간마다 filter 하나를 쓰고,
+ * 가장 오래된 구간을 비워 가며 돌려 쓴다. 따라서 (window - 한 구간) ~ window 사이의 값까지 기억한다.
+ * 오탐(처음 본 값을 본 적 있다고 판단)은 구간마다 설정한 확률 이하로 생길 수 있고, 누락은 없다.
+ */
+public class RotatingBloomFilter {
+    private final int bitCount;
+    private final int hashCount;
+    private final long rotationMillis;
+    private final AtomicLongArray[] filters;
+    private volatile int current;
+    private volatile long rotatedAt;
+
+    public RotatingBloomFilter(int expectedInsertionsPerGeneration, double falsePositiveRate, int generations, Duration window) {
+        double ln2 = Math.log(2);
+        this.bitCount = (int) Math.ceil(-expectedInsertionsPerGeneration * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertionsPerGeneration * ln2));
+        this.rotationMillis = window.toMillis() / generations;
+        this.filters = new AtomicLongArray[generations];
+        for (int i = 0; i < generations; i++) {
+            filters[i] = new AtomicLongArray((bitCount + Long.SIZE - 1) / Long.SIZE);
+        }
+        this.rotatedAt = System.currentTimeMillis();
+    }
+
+    // 처음 보는 값이면 기록하고 true, window 안에 이미 본 값이면 false
+    public boolean putIfAbsent(long key) {
+        rotateIfNeeded();
+
+        long hash1 = HyperLogLog.mix(key);
+        long hash2 = HyperLogLog.mix(hash1);
+        for (AtomicLongArray filter : filters) {
+            if (contains(filter, hash1, hash2)) {
+                return false;
+            }
+        }
+
+        AtomicLongArray filter = filters[current];
+        for (int i = 0; i < hashCount; i++) {
+            int bit = bitIndex(hash1, hash2, i);
+            long mask = 1L << bit;
+            filter.getAndUpdate(bit / Long.SIZE, word -> word | mask);
+        }
+        return true;
+    }
+
+    private boolean contains(AtomicLongArray filter, long hash1, long hash2) {
+        for (int i = 0; i < hashCount; i++) {
+            int bit = bitIndex(hash1, hash2, i);
+            if ((filter.get(bit / Long.SIZE) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int bitIndex(long hash1, long hash2, int i) {
+        return (int) Math.floorMod(hash1 + i * hash2, (long) bitCount);
+    }
+
+    private void rotateIfNeeded() {
+        if (System.currentTimeMillis() - rotatedAt < rotationMillis) {
+            return;
+        }
+
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < filters.length && now - rotatedAt >= rotationMillis; i++) {
+                int next = (current + 1) % filters.length;
+                filters[next] = new AtomicLongArray(filters[next].length());
+                current = next;
+                rotatedAt += rotationMillis;
+            }
+            if (now - rotatedAt >= rotationMillis) {
+                rotatedAt = now;
+            }
+        }
+    }
+}
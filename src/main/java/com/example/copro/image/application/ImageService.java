@@ -2,8 +2,11 @@ package com.example.copro.image.application;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.example.copro.board.application.BoardSummaryService;
+import com.example.copro.board.application.event.BoardImagesChangedEvent;
 import com.example.copro.board.domain.Board;
 import com.example.copro.board.domain.repository.BoardRepository;
 import com.example.copro.board.exception.BoardNotFoundException;
@@ -18,6 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -28,6 +32,8 @@ public class ImageService {
     private final AmazonS3 amazonS3;
     private final ImageRepository imageRepository;
     private final BoardRepository boardRepository;
+    private final BoardSummaryService boardSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket; // S3 버킷 이름
@@ -35,10 +41,13 @@ public class ImageService {
     @Value("${cloudfront-domain-name}")
     private String CLOUD_FRONT_DOMAIN_NAME; // CloudFront 도메인 이름
 
-    public ImageService(AmazonS3 amazonS3, ImageRepository imageRepository, BoardRepository boardRepository) {
+    public ImageService(AmazonS3 amazonS3, ImageRepository imageRepository, BoardRepository boardRepository,
+                        BoardSummaryService boardSummaryService, ApplicationEventPublisher eventPublisher) {
         this.amazonS3 = amazonS3;
         this.imageRepository = imageRepository;
         this.boardRepository = boardRepository;
+        this.boardSummaryService = boardSummaryService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -85,12 +94,25 @@ public class ImageService {
                     .orElseThrow(() -> new BoardNotFoundException(boardId));
             // 게시물과 이미지 사이의 연관 관계 제거
             board.getImages().removeIf(image -> image.getId().equals(imageId));
+            boardSummaryService.update(board); // 대표 이미지가 바뀌었을 수 있음
+            eventPublisher.publishEvent(new BoardImagesChangedEvent(boardId));
         }
 
         amazonS3.deleteObject(bucket, findImage.getConvertImageName()); // S3에서 이미지 삭제
         imageRepository.delete(findImage);
     }
 
+    // S3 객체를 한 번의 요청으로 삭제(최대 1000개), DB 행은 호출하는 쪽에서 지운다
+    public void deleteObjects(List<String> convertImageNames) {
+        if (convertImageNames.isEmpty()) {
+            return;
+        }
+
+        amazonS3.deleteObjects(new DeleteObjectsRequest(bucket)
+                .withKeys(convertImageNames.toArray(String[]::new))
+                .withQuiet(true));
+    }
+
     public void uploadToBucket(String fileName, InputStream inputStream, long size, String contentType) {
         ObjectMetadata objectMetadata = new ObjectMetadata();
         objectMetadata.setContentLength(size); // 메타데이터 설정
@@ -6,12 +6,15 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_image_board_id", columnList = "board_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Image {
@@ -29,6 +32,10 @@ public class Image {
     @Schema(description = "변환된 이미지 파일 이름", example = "35324cfc-e04a-4559-beab-f41a9c23d759_KakaoTalk_20231030_161509818.jpg")
     private String convertImageName;
 
+    // 매핑된 게시물 id, 값은 Board.images(@JoinColumn)가 관리하고 여기서는 조회에만 쓴다
+    @Column(name = "board_id", insertable = false, updatable = false)
+    private Long boardId;
+
     @Builder
     private Image(String imageUrl, String convertImageName) {
         this.imageUrl = imageUrl;
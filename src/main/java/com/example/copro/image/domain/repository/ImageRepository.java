@@ -13,5 +13,8 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
 
     List<Image> findAllByIdIn(List<Long> ids);
 
+    // 이미 게시물에 매핑된 이미지
+    List<Image> findAllByIdInAndBoardIdIsNotNull(List<Long> ids);
+
     boolean existsById(Long id);
 }
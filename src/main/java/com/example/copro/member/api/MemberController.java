@@ -17,6 +17,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -111,6 +112,19 @@ public class MemberController {
         }
     }
 
+    @Operation(summary = "닉네임 검색", description = "닉네임 일부, 초성(ㄱㄷ), 입력 중인 글자로 멤버를 검색합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "401", description = "헤더 없음 or 토큰 불일치", content = @Content(schema = @Schema(example = "INVALID_HEADER or INVALID_TOKEN")))
+    })
+    @GetMapping("/nickname/search")
+    public RspTemplate<Page<MemberChattingProfileResDto>> searchNickName(@RequestParam(name = "query") String query,
+                                                                        @RequestParam(value = "page", defaultValue = "0") int page,
+                                                                        @RequestParam(value = "size", defaultValue = "10") int size) {
+        Page<MemberChattingProfileResDto> members = memberService.searchNickName(query, page, size);
+        return new RspTemplate<>(HttpStatus.OK, "닉네임 검색 완료", members);
+    }
+
     @Operation(summary = "깃 허브 주소 수정", description = "프로필에 깃허브주소를 업데이트 합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "수정 성공"),
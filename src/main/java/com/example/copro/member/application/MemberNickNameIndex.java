@@ -0,0 +1,81 @@
+package com.example.copro.member.application;
+
+import com.example.copro.global.util.HangulSearchIndex;
+import com.example.copro.member.application.event.MemberNickNameChangedEvent;
+import com.example.copro.member.domain.repository.MemberNickName;
+import com.example.copro.member.domain.repository.MemberRepository;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 닉네임 초성/자모 검색 색인. 시작 시 DB에서 재구축하고 이후에는 커밋된 닉네임 변경 이벤트로 갱신한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberNickNameIndex {
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+
+    private final MemberRepository memberRepository;
+
+    private volatile HangulSearchIndex index = new HangulSearchIndex();
+    // 재구축 중에 들어온 변경은 모아 두었다가 새 색인에 다시 반영한다
+    private List<MemberNickNameChangedEvent> pendingEvents;
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public HangulSearchIndex.Result search(String query, int offset, int limit) {
+        return index.search(query, offset, limit);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onNickNameChanged(MemberNickNameChangedEvent event) {
+        if (pendingEvents != null) {
+            pendingEvents.add(event);
+        }
+        index.put(event.memberId(), event.nickName());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            pendingEvents = new ArrayList<>();
+        }
+
+        HangulSearchIndex rebuilt = new HangulSearchIndex();
+        try {
+            long lastId = 0L;
+            List<MemberNickName> nickNames;
+            do {
+                nickNames = memberRepository.findNickNames(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                for (MemberNickName nickName : nickNames) {
+                    rebuilt.put(nickName.getMemberId(), nickName.getNickName());
+                    lastId = nickName.getMemberId();
+                }
+            } while (nickNames.size() == REBUILD_CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingEvents = null;
+            }
+            log.error("닉네임 검색 색인 재구축 실패, DB 검색을 계속 사용합니다.", e);
+            return;
+        }
+
+        synchronized (this) {
+            pendingEvents.forEach(event -> rebuilt.put(event.memberId(), event.nickName()));
+            pendingEvents = null;
+            index = rebuilt;
+            ready = true;
+        }
+
+        log.info("닉네임 검색 색인 재구축 완료: {}건", rebuilt.size());
+    }
+}
@@ -1,20 +1,31 @@
 package com.example.copro.member.application;
 
+import com.example.copro.board.application.BoardSummaryService;
 import com.example.copro.member.api.dto.request.MemberGitHubUrlUpdateReqDto;
 import com.example.copro.member.api.dto.request.MemberLikeReqDto;
 import com.example.copro.member.api.dto.request.MemberProfileUpdateReqDto;
 import com.example.copro.member.api.dto.response.MemberChattingProfileResDto;
 import com.example.copro.member.api.dto.response.MemberInfoResDto;
 import com.example.copro.member.api.dto.response.MemberResDto;
+import com.example.copro.member.application.event.MemberNickNameChangedEvent;
+import com.example.copro.member.application.event.MemberProfileChangedEvent;
 import com.example.copro.member.domain.Member;
 import com.example.copro.member.domain.repository.MemberLikeRepository;
 import com.example.copro.member.domain.repository.MemberRepository;
 import com.example.copro.member.exception.ExistsLikeMemberException;
 import com.example.copro.member.exception.ExistsNickNameException;
 import com.example.copro.member.exception.MemberNotFoundException;
+import com.example.copro.global.util.HangulSearchIndex;
 import com.example.copro.notification.application.FCMNotificationService;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,11 +36,19 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final MemberLikeRepository memberLikeRepository;
     private final FCMNotificationService fcmNotificationService;
+    private final BoardSummaryService boardSummaryService;
+    private final MemberNickNameIndex memberNickNameIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public MemberService(MemberRepository memberRepository, MemberLikeRepository memberLikeRepository, FCMNotificationService fcmNotificationService) {
+    public MemberService(MemberRepository memberRepository, MemberLikeRepository memberLikeRepository, FCMNotificationService fcmNotificationService,
+                         BoardSummaryService boardSummaryService, MemberNickNameIndex memberNickNameIndex,
+                         ApplicationEventPublisher eventPublisher) {
         this.memberRepository = memberRepository;
         this.memberLikeRepository = memberLikeRepository;
         this.fcmNotificationService = fcmNotificationService;
+        this.boardSummaryService = boardSummaryService;
+        this.memberNickNameIndex = memberNickNameIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -45,6 +64,26 @@ public class MemberService {
         return MemberChattingProfileResDto.from(member);
     }
 
+    // 닉네임 검색, 초성("ㄱㄷ")이나 입력 중인 글자도 찾는다. 색인 재구축 중에는 LIKE 검색으로 처리
+    public Page<MemberChattingProfileResDto> searchNickName(String query, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        if (!memberNickNameIndex.isReady()) {
+            return memberRepository.findByNickNameContaining(query, pageRequest).map(MemberChattingProfileResDto::from);
+        }
+
+        HangulSearchIndex.Result result = memberNickNameIndex.search(query, (int) pageRequest.getOffset(), size);
+        Map<Long, Member> members = memberRepository.findAllById(result.ids()).stream()
+                .collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+
+        List<MemberChattingProfileResDto> profiles = result.ids().stream()
+                .map(members::get)
+                .filter(Objects::nonNull)
+                .map(MemberChattingProfileResDto::from)
+                .toList();
+
+        return new PageImpl<>(profiles, pageRequest, result.total());
+    }
+
     // 전체 멤버 정보리스트
     public MemberInfoResDto memberInfoList(Member member, String occupation, String language, int career, int page, int size) {
         String o = Optional.ofNullable(occupation).map(String::trim).filter(s -> !s.isEmpty()).orElse(null);
@@ -72,8 +111,16 @@ public class MemberService {
         Member getMember = memberRepository.findById(member.getMemberId()).orElseThrow(MemberNotFoundException::new);
 
         validateDuplicateMyNickName(memberProfileUpdateReqDto.nickName(), getMember);
+        String previousNickName = getMember.getNickName();
         getMember.profileUpdate(memberProfileUpdateReqDto);
 
+        if (!getMember.getNickName().equals(previousNickName)) {
+            boardSummaryService.updateNickName(getMember.getMemberId(), getMember.getNickName());
+            eventPublisher.publishEvent(new MemberNickNameChangedEvent(getMember.getMemberId(), getMember.getNickName()));
+        }
+        boardSummaryService.increaseCommentVersionByWriter(getMember.getMemberId());
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(getMember.getMemberId()));
+
         return MemberResDto.from(member);
     }
 
@@ -0,0 +1,8 @@
+package com.example.copro.member.application.event;
+
+// 닉네임 설정, 변경 이벤트. 커밋 이후 닉네임 검색 색인에 반영한다.
+public record MemberNickNameChangedEvent(
+        Long memberId,
+        String nickName
+) {
+}
@@ -0,0 +1,7 @@
+package com.example.copro.member.application.event;
+
+// 프로필(닉네임, 직군 등) 수정 이벤트. 게시물 상세에 보이는 작성자 정보 캐시를 갱신한다.
+public record MemberProfileChangedEvent(
+        Long memberId
+) {
+}
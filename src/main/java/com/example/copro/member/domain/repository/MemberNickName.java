@@ -0,0 +1,8 @@
+package com.example.copro.member.domain.repository;
+
+// 닉네임 검색 색인 재구축용 projection
+public interface MemberNickName {
+    Long getMemberId();
+
+    String getNickName();
+}
@@ -1,9 +1,14 @@
 package com.example.copro.member.domain.repository;
 
 import com.example.copro.member.domain.Member;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,4 +20,10 @@ public interface MemberRepository extends JpaRepository<Member, Long>, JpaSpecif
     Optional<Member> findByNickName(String nickName);
 
     boolean existsByNickName(String nickName);
+
+    Page<Member> findByNickNameContaining(String nickName, Pageable pageable);
+
+    @Query("select m.memberId as memberId, m.nickName as nickName from Member m "
+            + "where m.memberId > :lastId and m.nickName is not null order by m.memberId")
+    List<MemberNickName> findNickNames(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -3,15 +3,24 @@ package com.example.copro.member.domain.repository;
 import com.example.copro.board.domain.Board;
 import com.example.copro.member.domain.Member;
 import com.example.copro.member.domain.MemberScrapBoard;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberScrapBoardRepository extends JpaRepository<MemberScrapBoard, Long> {
     Optional<MemberScrapBoard> findByMemberMemberIdAndBoardBoardId(Long memberId, Long boardId);
 
-    Page<MemberScrapBoard> findByMember(Member member, Pageable pageable);
+    // 삭제 표시된 게시물의 스크랩은 BoardPurger가 지우기 전까지 목록에서 뺀다
+    @EntityGraph(attributePaths = "board")
+    Page<MemberScrapBoard> findByMemberAndBoardDeletedFalse(Member member, Pageable pageable);
 
     boolean existsByMemberAndBoard(Member member, Board board);
+
+    @Query("select s.board.boardId from MemberScrapBoard s where s.member.memberId = :memberId")
+    List<Long> findBoardIdsByMemberId(@Param("memberId") Long memberId);
 }
@@ -1,6 +1,7 @@
 package com.example.copro.member.mypage.api.dto.response;
 
-import com.example.copro.image.api.dto.response.ImageBoardResDto;
+import com.example.copro.board.application.BoardHydrationContext;
+import com.example.copro.board.domain.Board;
 import com.example.copro.member.domain.MemberScrapBoard;
 import java.time.LocalDateTime;
 import lombok.Builder;
@@ -16,18 +17,18 @@ public record MyScrapBoardsResDto(
         String imageUrl,
         int commentCount
 ) {
-    public static MyScrapBoardsResDto of(MemberScrapBoard myBoard, int commentCount) {
-        ImageBoardResDto image = ImageBoardResDto.from(myBoard.getBoard());
+    public static MyScrapBoardsResDto of(MemberScrapBoard myBoard, BoardHydrationContext context) {
+        Board board = myBoard.getBoard();
 
         return MyScrapBoardsResDto.builder()
-                .boardId(myBoard.getBoard().getBoardId())
-                .title(myBoard.getBoard().getTitle())
-                .nickName(myBoard.getBoard().getMember().getNickName())
-                .createAt(myBoard.getBoard().getCreateAt())
-                .count(myBoard.getBoard().getCount())
-                .heart(myBoard.getBoard().getHeart())
-                .imageUrl(image.imageUrl())
-                .commentCount(commentCount)
+                .boardId(board.getBoardId())
+                .title(board.getTitle())
+                .nickName(context.nickName(board))
+                .createAt(board.getCreateAt())
+                .count(board.getCount())
+                .heart(board.getHeart())
+                .imageUrl(context.firstImageUrl(board))
+                .commentCount(context.commentCount(board))
                 .build();
     }
 }
@@ -1,9 +1,13 @@
 package com.example.copro.member.mypage.application;
 
 import com.example.copro.board.api.dto.response.BoardListRspDto;
+import com.example.copro.board.application.BoardHydrationContext;
+import com.example.copro.board.application.BoardHydrator;
 import com.example.copro.board.domain.Board;
 import com.example.copro.board.domain.repository.BoardRepository;
 import com.example.copro.comment.api.dto.response.CommentResDto;
+import com.example.copro.comment.application.CommentHydrationContext;
+import com.example.copro.comment.application.CommentHydrator;
 import com.example.copro.comment.domain.Comment;
 import com.example.copro.comment.domain.repository.CommentRepository;
 import com.example.copro.member.api.dto.response.MemberLikeResDto;
@@ -16,6 +20,7 @@ import com.example.copro.member.domain.repository.MemberScrapBoardRepository;
 import com.example.copro.member.mypage.api.dto.request.UpdateViewTypeReqDto;
 import com.example.copro.member.mypage.api.dto.response.MyProfileInfoResDto;
 import com.example.copro.member.mypage.api.dto.response.MyScrapBoardsResDto;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -31,6 +36,8 @@ public class MyPageService {
     private final MemberScrapBoardRepository memberScrapBoardRepository;
     private final MemberLikeRepository memberLikeRepository;
     private final CommentRepository commentRepository;
+    private final BoardHydrator boardHydrator;
+    private final CommentHydrator commentHydrator;
 
     // 본인 프로필 정보
     public MyProfileInfoResDto myProfileInfo(Member member) {
@@ -57,33 +64,29 @@ public class MyPageService {
 
     // 내 관심 게시물 목록
     public Page<MyScrapBoardsResDto> boardLikeList(Member member, int page, int size) {
-        Page<MemberScrapBoard> boards = memberScrapBoardRepository.findByMember(member, PageRequest.of(page, size));
+        Page<MemberScrapBoard> boards = memberScrapBoardRepository.findByMemberAndBoardDeletedFalse(member, PageRequest.of(page, size));
 
-        return boards.map(this::mapToMyScrapBoard);
-    }
-
-    private MyScrapBoardsResDto mapToMyScrapBoard(MemberScrapBoard memberScrapBoard) {
-        int commentCount = commentRepository.countByBoardBoardId(memberScrapBoard.getBoard().getBoardId());
+        List<Board> scrapBoards = boards.getContent().stream()
+                .map(MemberScrapBoard::getBoard)
+                .toList();
+        BoardHydrationContext context = boardHydrator.hydrate(scrapBoards);
 
-        return MyScrapBoardsResDto.of(memberScrapBoard, commentCount);
+        return boards.map(memberScrapBoard -> MyScrapBoardsResDto.of(memberScrapBoard, context));
     }
 
     // 작성한 게시물 목록
     public BoardListRspDto boardWriteList(Member member, int page, int size) {
         Page<Board> boards = boardRepository.findByMember(member, PageRequest.of(page, size));
 
-        return BoardListRspDto.from(boards);
+        return BoardListRspDto.from(boards, boardHydrator.hydrate(boards.getContent()));
     }
 
     // 작성 댓글
     public Page<CommentResDto> commentWriteList(Member member, int page, int size) {
         Page<Comment> myComments = commentRepository.findByWriter(member, PageRequest.of(page, size));
+        CommentHydrationContext context = commentHydrator.hydrate(myComments.getContent());
 
-        return myComments.map(this::mapToMyComments);
-    }
-
-    private CommentResDto mapToMyComments(Comment comment) {
-        return CommentResDto.from(comment);
+        return myComments.map(comment -> CommentResDto.from(comment, context));
     }
 
     // 뷰 타입 변경
@@ -0,0 +1,62 @@
+package com.example.copro.board.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.copro.board.api.dto.response.BoardDto;
+import com.example.copro.board.application.event.BoardCountChangedEvent;
+import com.example.copro.board.domain.Category;
+import com.example.copro.board.domain.repository.BoardRepository;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+class BoardFirstPageCacheTest {
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 7, Sort.by(Sort.Direction.DESC, "createAt"));
+
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final BoardVersions boardVersions = mock(BoardVersions.class);
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final BoardFirstPageCache cache = new BoardFirstPageCache(boardRepository, boardVersions, tasks::add);
+
+    @Test
+    void 다시_만들기_전에는_이전_페이지를_만든_버전을_돌려준다() {
+        when(boardVersions.list(Category.자유)).thenReturn(3L);
+        givenPage(board(1L, 0));
+        assertThat(cache.version(Category.자유, FIRST_PAGE)).isEqualTo(3);
+
+        // 좋아요가 커밋되어 목록 버전은 올랐지만 재구성은 아직 실행 전
+        when(boardVersions.list(Category.자유)).thenReturn(4L);
+        givenPage(board(1L, 1));
+        cache.onBoardCountChanged(new BoardCountChangedEvent(1L));
+
+        assertThat(cache.version(Category.자유, FIRST_PAGE)).isEqualTo(3);
+        assertThat(cache.get(Category.자유, FIRST_PAGE).boards().get(0).heart()).isZero();
+
+        tasks.poll().run();
+
+        assertThat(cache.version(Category.자유, FIRST_PAGE)).isEqualTo(4);
+        assertThat(cache.get(Category.자유, FIRST_PAGE).boards().get(0).heart()).isEqualTo(1);
+    }
+
+    private void givenPage(BoardDto... boards) {
+        when(boardRepository.findAllWithCommentCount(eq(Category.자유), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(boards), FIRST_PAGE, boards.length));
+    }
+
+    private BoardDto board(Long id, int heart) {
+        return BoardDto.builder()
+                .id(id)
+                .title("제목")
+                .heart(heart)
+                .build();
+    }
+}
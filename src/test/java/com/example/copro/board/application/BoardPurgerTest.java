@@ -0,0 +1,69 @@
+package com.example.copro.board.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.copro.board.domain.repository.BoardRepository;
+import com.example.copro.global.lock.application.JobLockService;
+import com.example.copro.image.application.ImageService;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class BoardPurgerTest {
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final JobLockService jobLockService = mock(JobLockService.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final BoardPurger boardPurger =
+            new BoardPurger(boardRepository, mock(ImageService.class), jobLockService, jdbcTemplate);
+
+    @BeforeEach
+    void setUp() {
+        when(jobLockService.runLocked(anyString(), any(Duration.class), any(Duration.class), any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(3).run();
+                    return true;
+                });
+    }
+
+    @Test
+    void 조회자_sketch도_지운다() {
+        when(boardRepository.findDeletedBoardIdsAfter(0, 20)).thenReturn(List.of(5L));
+
+        boardPurger.purge();
+
+        verify(jdbcTemplate).update(startsWith("delete from board_viewer_sketch"), eq(5L), anyInt());
+        verify(jdbcTemplate).update(startsWith("delete from board where"), eq(5L));
+    }
+
+    @Test
+    void 실패한_게시물이_있어도_다음_게시물로_넘어가고_바로_다시_시도하지_않는다() {
+        List<Long> first = LongStream.rangeClosed(1, 20).boxed().toList();
+        when(boardRepository.findDeletedBoardIdsAfter(0, 20)).thenReturn(first);
+        when(boardRepository.findDeletedBoardIdsAfter(20, 20)).thenReturn(List.of(21L));
+        when(jdbcTemplate.update(startsWith("delete from member_heart_board"), eq(1L), anyInt()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        boardPurger.purge();
+        boardPurger.purge();
+        boardPurger.purge();
+
+        // 21번까지 훑은 뒤 처음으로 돌아오지만 1번은 대기 시간이 지나지 않아 건너뛴다
+        verify(boardRepository, times(2)).findDeletedBoardIdsAfter(0, 20);
+        verify(boardRepository).findDeletedBoardIdsAfter(20, 20);
+        verify(jdbcTemplate).update(startsWith("delete from member_heart_board"), eq(1L), anyInt());
+        verify(jdbcTemplate).update(startsWith("delete from board where"), eq(21L));
+        verify(jdbcTemplate, times(2)).update(startsWith("delete from board where"), eq(2L));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.copro.board.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.copro.board.api.dto.response.BoardResDto;
+import com.example.copro.board.application.event.BoardActivityEvent;
+import com.example.copro.board.domain.Category;
+import com.example.copro.board.domain.Tag;
+import com.example.copro.board.domain.repository.BoardDetail;
+import com.example.copro.board.exception.InvalidLimitException;
+import com.example.copro.member.domain.Member;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 상세 조회는 조회를 기록하고, 인기 게시물 조회는 기록하지 않는지, 자동완성 개수를 검사하는지 확인한다
+@ExtendWith(MockitoExtension.class)
+class BoardServiceTest {
+    private static final Long BOARD_ID = 1L;
+    private static final Long MEMBER_ID = 7L;
+
+    @Mock
+    private BoardDetailCache boardDetailCache;
+    @Mock
+    private BoardInteractionService boardInteractionService;
+    @Mock
+    private BoardViewTracker boardViewTracker;
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @InjectMocks
+    private BoardService boardService;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = Member.builder().email("viewer@copro.com").build();
+        ReflectionTestUtils.setField(member, "memberId", MEMBER_ID);
+    }
+
+    @Test
+    void 상세_조회는_조회수와_인기_점수에_반영한다() {
+        givenDetail();
+        given(boardViewTracker.record(BOARD_ID, MEMBER_ID)).willReturn(true);
+        given(viewCountBuffer.pendingOf(BOARD_ID)).willReturn(1L);
+
+        BoardResDto board = boardService.getBoard(member, BOARD_ID);
+
+        assertThat(board.count()).isEqualTo(11);
+        verify(viewCountBuffer).increase(BOARD_ID);
+        verify(eventPublisher).publishEvent(any(BoardActivityEvent.class));
+    }
+
+    @Test
+    void 인기_게시물_조회는_조회를_기록하지_않는다() {
+        givenDetail();
+
+        BoardResDto board = boardService.getTrendingBoard(member, BOARD_ID);
+
+        assertThat(board.boardId()).isEqualTo(BOARD_ID);
+        assertThat(board.count()).isEqualTo(10);
+        verify(boardViewTracker, never()).record(anyLong(), anyLong());
+        verify(viewCountBuffer, never()).increase(anyLong());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void 자동완성_개수가_1_미만이면_예외가_발생한다() {
+        assertThatThrownBy(() -> boardService.suggestTitle("프로", -1))
+                .isInstanceOf(InvalidLimitException.class);
+        assertThatThrownBy(() -> boardService.suggestTitle("프로", 0))
+                .isInstanceOf(InvalidLimitException.class);
+    }
+
+    private void givenDetail() {
+        BoardDetail detail = new BoardDetail(BOARD_ID, "제목", LocalDateTime.now(), Category.자유, "내용", "백엔드",
+                Tag.기타, 10, 0, "작성자", "개발자", "writer@copro.com", null, 0);
+        given(boardDetailCache.get(eq(BOARD_ID), any()))
+                .willReturn(new BoardDetailCache.CachedBoardDetail(detail, List.of()));
+        given(boardInteractionService.viewerState(MEMBER_ID, BOARD_ID)).willReturn(new BoardViewerState(false, false));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.copro.board.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.copro.board.application.BoardVersions.VersionMap;
+import org.junit.jupiter.api.Test;
+
+class BoardVersionsTest {
+
+    @Test
+    void 올린_항목만_버전이_바뀐다() {
+        VersionMap versions = new VersionMap();
+
+        versions.bump(1L);
+        versions.bump(1L);
+
+        assertThat(versions.get(1L)).isEqualTo(2);
+        assertThat(versions.get(2L)).isZero();
+    }
+
+    @Test
+    void 가득_차면_비우지만_버전은_줄어들지_않는다() {
+        VersionMap versions = new VersionMap();
+        for (long id = 0; id < BoardVersions.MAX_TRACKED; id++) {
+            versions.bump(id);
+        }
+        long last = versions.get(BoardVersions.MAX_TRACKED - 1L);
+
+        versions.bump(-1L);
+
+        assertThat(versions.size()).isEqualTo(1);
+        // 비운 항목은 비우기 전 가장 큰 버전으로 보이고, 새로 올린 항목은 그보다 크다
+        assertThat(versions.get(0L)).isEqualTo(last);
+        assertThat(versions.get(BoardVersions.MAX_TRACKED - 1L)).isEqualTo(last);
+        assertThat(versions.get(-1L)).isGreaterThan(last);
+
+        versions.bump(0L);
+        assertThat(versions.get(0L)).isGreaterThan(versions.get(-1L));
+    }
+
+    @Test
+    void 이미_있는_항목을_올릴_때는_비우지_않는다() {
+        VersionMap versions = new VersionMap();
+        for (long id = 0; id < BoardVersions.MAX_TRACKED; id++) {
+            versions.bump(id);
+        }
+
+        versions.bump(0L);
+
+        assertThat(versions.size()).isEqualTo(BoardVersions.MAX_TRACKED);
+    }
+}
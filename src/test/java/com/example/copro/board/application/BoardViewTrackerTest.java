@@ -0,0 +1,88 @@
+package com.example.copro.board.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.copro.board.domain.repository.BoardViewerSketchRepository;
+import com.example.copro.global.util.HyperLogLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class BoardViewTrackerTest {
+    private final BoardViewerSketchRepository repository = mock(BoardViewerSketchRepository.class);
+    private final BoardViewTracker tracker = new BoardViewTracker(repository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry());
+
+    @Test
+    void 같은_회원의_재조회는_조회수를_올리지_않는다() {
+        assertThat(tracker.record(1L, 10L)).isTrue();
+        assertThat(tracker.record(1L, 10L)).isFalse();
+        assertThat(tracker.record(2L, 10L)).isTrue();
+        assertThat(tracker.record(1L, 11L)).isTrue();
+    }
+
+    @Test
+    void 순_조회자_수는_처음_한_번만_DB에서_읽고_flush에서_갱신한다() {
+        when(repository.findById(anyLong())).thenReturn(Optional.empty());
+        when(repository.findAllByIdInForUpdate(anyCollection())).thenReturn(List.of());
+
+        assertThat(tracker.viewerCount(1L)).isZero();
+        for (long memberId = 1; memberId <= 100; memberId++) {
+            tracker.record(1L, memberId);
+        }
+        assertThat(tracker.viewerCount(1L)).isZero();
+
+        tracker.flush();
+
+        assertThat(tracker.viewerCount(1L)).isBetween(95L, 105L);
+        verify(repository, times(1)).findById(1L);
+    }
+
+    @Test
+    void 비운_뒤에_뒤늦게_더해진_조회자도_다음_flush에서_저장한다() {
+        when(repository.findById(anyLong())).thenReturn(Optional.empty());
+        when(repository.findAllByIdInForUpdate(anyCollection())).thenReturn(List.of());
+        for (long memberId = 1; memberId <= 100; memberId++) {
+            tracker.record(1L, memberId);
+        }
+        // flush가 sketch를 비우기 직전에 sketch를 받아 간 조회
+        Map<Long, HyperLogLog> pending = pendingSketches();
+        HyperLogLog taken = pending.get(1L);
+
+        tracker.flush();
+        for (long memberId = 101; memberId <= 200; memberId++) {
+            taken.offer(memberId);
+        }
+        tracker.flush();
+
+        assertThat(tracker.viewerCount(1L)).isBetween(190L, 210L);
+        verify(repository, times(2)).findAllByIdInForUpdate(anyCollection());
+    }
+
+    @Test
+    void 뒤늦은_조회가_없으면_비운_sketch를_다시_저장하지_않는다() {
+        when(repository.findAllByIdInForUpdate(anyCollection())).thenReturn(List.of());
+        tracker.record(1L, 1L);
+
+        tracker.flush();
+        tracker.flush();
+
+        verify(repository, times(1)).findAllByIdInForUpdate(anyCollection());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, HyperLogLog> pendingSketches() {
+        return (Map<Long, HyperLogLog>) ReflectionTestUtils.getField(tracker, "pendingSketches");
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.copro.board.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.copro.board.api.dto.request.HeartReqDto;
+import com.example.copro.board.application.search.BoardSearchCache;
+import com.example.copro.board.application.search.BoardSearchEngine;
+import com.example.copro.board.application.search.BoardSuggester;
+import com.example.copro.board.application.trending.BoardTrendingEngine;
+import com.example.copro.board.config.JpaBoardConfig;
+import com.example.copro.board.domain.Board;
+import com.example.copro.board.domain.BoardSummary;
+import com.example.copro.board.domain.Category;
+import com.example.copro.board.domain.repository.BoardRepository;
+import com.example.copro.board.domain.repository.BoardSummaryRepository;
+import com.example.copro.board.exception.AlreadyHeartException;
+import com.example.copro.board.exception.HeartNotFoundException;
+import com.example.copro.global.config.QuerydslConfig;
+import com.example.copro.member.domain.Member;
+import com.example.copro.member.domain.Role;
+import com.example.copro.member.domain.SocialType;
+import com.example.copro.member.domain.repository.MemberRepository;
+import com.example.copro.notification.application.FCMNotificationService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 좋아요/취소 1000건을 동시에 보내도 좋아요 수가 실제 좋아요 행 수와 정확히 같은지 확인한다
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:heart;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;"
+        + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=10000")
+@Import({QuerydslConfig.class, JpaBoardConfig.class, BoardService.class, BoardSummaryService.class, HeartCounter.class})
+class HeartConcurrencyTest {
+    private static final int MEMBERS = 100;
+    private static final int TOGGLES = 1_000;
+
+    @Autowired
+    private BoardService boardService;
+    @Autowired
+    private HeartCounter heartCounter;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private BoardSummaryRepository boardSummaryRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private FCMNotificationService fcmNotificationService;
+    @MockBean
+    private BoardCounterService boardCounterService;
+    @MockBean
+    private ViewCountBuffer viewCountBuffer;
+    @MockBean
+    private BoardViewTracker boardViewTracker;
+    @MockBean
+    private BoardFirstPageCache boardFirstPageCache;
+    @MockBean
+    private BoardDetailCache boardDetailCache;
+    @MockBean
+    private BoardETags boardETags;
+    @MockBean
+    private BoardInteractionService boardInteractionService;
+    @MockBean
+    private BoardSearchEngine boardSearchEngine;
+    @MockBean
+    private BoardSearchCache boardSearchCache;
+    @MockBean
+    private BoardSuggester boardSuggester;
+    @MockBean
+    private BoardTrendingEngine boardTrendingEngine;
+
+    @Test
+    void 동시에_좋아요를_눌렀다_취소해도_좋아요_수가_정확하다() throws Exception {
+        Member writer = saveMember("writer");
+        Board board = boardRepository.save(Board.builder()
+                .title("좋아요 테스트")
+                .category(Category.프로젝트)
+                .contents("내용")
+                .member(writer)
+                .images(List.of())
+                .build());
+        boardSummaryRepository.save(BoardSummary.of(board, 0));
+        Long boardId = board.getBoardId();
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(saveMember("viewer" + i));
+        }
+
+        // 회원마다 좋아요 5번, 취소 5번을 섞어서 동시에 보낸다. 같은 회원의 연속 요청(더블 탭)도 겹친다.
+        List<Runnable> toggles = new ArrayList<>();
+        for (int i = 0; i < TOGGLES; i++) {
+            Member member = members.get(i % MEMBERS);
+            boolean heart = i / MEMBERS % 2 == 0;
+            toggles.add(() -> {
+                if (heart) {
+                    boardService.heartBoard(new HeartReqDto(boardId), member);
+                } else {
+                    boardService.heartDelete(new HeartReqDto(boardId), member);
+                }
+            });
+        }
+        Collections.shuffle(toggles);
+
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        List<Future<?>> futures = new ArrayList<>();
+        toggles.forEach(toggle -> futures.add(executor.submit(() -> {
+            try {
+                toggle.run();
+            } catch (AlreadyHeartException | HeartNotFoundException e) {
+                rejected.incrementAndGet();
+            }
+        })));
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        int hearts = jdbcTemplate.queryForObject(
+                "select count(*) from member_heart_board where board_id = ?", Integer.class, boardId);
+        assertThat(heartCounter.heartOf(boardId)).isEqualTo(hearts);
+        assertThat(rejected.get()).isPositive();
+
+        // 분산 slot에 쌓인 값을 옮긴 뒤에도 board, board_summary 모두 같은 값이어야 한다
+        heartCounter.fold();
+        assertThat(heartCounter.heartOf(boardId)).isEqualTo(hearts);
+        assertThat(jdbcTemplate.queryForObject("select heart from board where board_id = ?", Integer.class, boardId))
+                .isEqualTo(hearts);
+        assertThat(jdbcTemplate.queryForObject("select heart from board_summary where board_id = ?", Integer.class,
+                boardId)).isEqualTo(hearts);
+    }
+
+    private Member saveMember(String name) {
+        return memberRepository.save(Member.builder()
+                .role(Role.ROLE_USER)
+                .email(name + "@copro.com")
+                .name(name)
+                .socialType(SocialType.GOOGLE)
+                .build());
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.copro.board.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.copro.board.config.JpaBoardConfig;
+import com.example.copro.board.domain.Board;
+import com.example.copro.board.domain.Category;
+import com.example.copro.global.config.QuerydslConfig;
+import com.example.copro.global.lock.application.JobLockService;
+import com.example.copro.image.application.ImageService;
+import com.example.copro.image.domain.Image;
+import com.example.copro.member.domain.Member;
+import com.example.copro.member.domain.Role;
+import com.example.copro.member.domain.SocialType;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+// image.board_id 도입 전에 작성된 게시물(board_images에 매핑이 남아 있는 게시물)도 이전 후 정리되는지 확인한다
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:board-images;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;"
+        + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_ON_EXIT=FALSE")
+@Import({QuerydslConfig.class, JpaBoardConfig.class, ImageBoardColumnMigration.class, BoardPurger.class})
+class ImageBoardColumnMigrationTest {
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ImageBoardColumnMigration imageBoardColumnMigration;
+    @Autowired
+    private BoardPurger boardPurger;
+
+    @MockBean
+    private ImageService imageService;
+    @MockBean
+    private JobLockService jobLockService;
+
+    private Board legacyBoard;
+
+    @BeforeEach
+    void setUp() {
+        when(jobLockService.runLocked(anyString(), any(Duration.class), any(Duration.class), any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(3).run();
+                    return true;
+                });
+
+        Member writer = Member.builder()
+                .role(Role.ROLE_USER)
+                .email("writer@copro.com")
+                .name("회원")
+                .socialType(SocialType.GOOGLE)
+                .build();
+        entityManager.persist(writer);
+        legacyBoard = Board.builder()
+                .title("제목")
+                .category(Category.자유)
+                .contents("내용")
+                .member(writer)
+                .images(new ArrayList<>())
+                .build();
+        entityManager.persist(legacyBoard);
+        Image image = Image.builder()
+                .imageUrl("https://image/legacy")
+                .convertImageName("legacy.png")
+                .build();
+        entityManager.persist(image);
+        entityManager.flush();
+
+        // 이전 매핑 방식(@JoinTable)이 ddl-auto로 만든 조인 테이블
+        jdbcTemplate.execute("""
+                create table board_images (
+                    board_board_id bigint not null,
+                    images_image_id bigint not null unique,
+                    foreign key (board_board_id) references board (board_id),
+                    foreign key (images_image_id) references image (image_id)
+                )
+                """);
+        jdbcTemplate.update("insert into board_images (board_board_id, images_image_id) values (?, ?)",
+                legacyBoard.getBoardId(), image.getId());
+        jdbcTemplate.update("update board set deleted = true where board_id = ?", legacyBoard.getBoardId());
+    }
+
+    // DDL은 테스트 트랜잭션과 함께 롤백되지 않는다
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop table if exists board_images");
+    }
+
+    @Test
+    void 이전한_매핑을_지워_삭제_게시물을_정리할_수_있다() {
+        imageBoardColumnMigration.migrate();
+
+        assertThat(count("select count(*) from board_images")).isZero();
+        assertThat(count("select count(*) from image where board_id = " + legacyBoard.getBoardId())).isEqualTo(1);
+
+        boardPurger.purge();
+
+        verify(imageService).deleteObjects(List.of("legacy.png"));
+        assertThat(count("select count(*) from image where board_id = " + legacyBoard.getBoardId())).isZero();
+        assertThat(count("select count(*) from board where board_id = " + legacyBoard.getBoardId())).isZero();
+    }
+
+    @Test
+    void 여러_번_실행해도_결과가_같다() {
+        imageBoardColumnMigration.migrate();
+        imageBoardColumnMigration.migrate();
+
+        assertThat(count("select count(*) from image where board_id = " + legacyBoard.getBoardId())).isEqualTo(1);
+        assertThat(count("select count(*) from board_images")).isZero();
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.copro.board.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ViewCountBufferTest {
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ViewCountBuffer buffer = new ViewCountBuffer(jdbcTemplate,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), mock(BoardVersions.class));
+    private static final int BOARDS = 100_000;
+
+    private final AtomicLong flushed = new AtomicLong();
+
+    @Test
+    void 모은_조회수를_한_번에_반영하고_비운다() {
+        recordFlushedViews();
+        buffer.increase(1L);
+        buffer.increase(1L);
+        buffer.increase(2L);
+
+        assertThat(buffer.pendingOf(1L)).isEqualTo(2);
+
+        buffer.flush();
+
+        assertThat(flushed).hasValue(3);
+        assertThat(buffer.pendingOf(1L)).isZero();
+    }
+
+    @Test
+    void 반영에_실패하면_다음_주기에_다시_반영한다() {
+        buffer.increase(1L);
+        doAnswer(invocation -> {
+            throw new IllegalStateException("db down");
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        buffer.flush();
+
+        assertThat(buffer.pendingOf(1L)).isEqualTo(1);
+    }
+
+    @Test
+    void 비우는_도중에_들어온_조회도_잃지_않는다() throws InterruptedException {
+        recordFlushedViews();
+        int viewers = 16;
+        int viewsPerViewer = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(viewers);
+        CountDownLatch done = new CountDownLatch(viewers);
+        AtomicBoolean flushing = new AtomicBoolean(true);
+
+        // 게시물마다 조회가 드물게 들어오게 해서 조회가 없는 게시물을 비우는 경로와 조회가 자주 겹치게 한다
+        for (int i = 0; i < viewers; i++) {
+            executor.execute(() -> {
+                for (int view = 0; view < viewsPerViewer; view++) {
+                    buffer.increase((long) ThreadLocalRandom.current().nextInt(BOARDS));
+                }
+                done.countDown();
+            });
+        }
+        Thread flusher = new Thread(() -> {
+            while (flushing.get()) {
+                buffer.flush();
+            }
+        });
+        flusher.start();
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        flushing.set(false);
+        flusher.join();
+        executor.shutdown();
+        buffer.flush();
+        buffer.flush();
+
+        assertThat(flushed).hasValue((long) viewers * viewsPerViewer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void recordFlushedViews() {
+        doAnswer(invocation -> {
+            List<Object[]> increments = invocation.getArgument(1);
+            increments.forEach(increment -> flushed.addAndGet((Long) increment[0]));
+            return new int[increments.size()];
+        }).when(jdbcTemplate).batchUpdate(startsWith("update board set"), anyList());
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.copro.board.application.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.example.copro.board.application.event.BoardChangedEvent;
+import com.example.copro.board.application.event.BoardSnapshot;
+import com.example.copro.board.domain.Category;
+import com.example.copro.board.domain.Tag;
+import com.example.copro.board.domain.repository.BoardRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+// 검색 캐시는 색인에 변경이 반영된 뒤에 지워져야 한다. 먼저 지우면 옛 색인으로 조회한 결과가 다시 캐시된다.
+class BoardSearchEngineTest {
+    private final BoardSearchCache boardSearchCache = mock(BoardSearchCache.class);
+    private final BoardSearchEngine engine = new BoardSearchEngine(mock(BoardRepository.class), boardSearchCache);
+
+    @Test
+    void 색인에_반영한_뒤에_검색_캐시를_지운다() {
+        List<List<Long>> seenOnInvalidate = new ArrayList<>();
+        doAnswer(invocation -> seenOnInvalidate.add(engine.search("스프링", 0, 10).boardIds()))
+                .when(boardSearchCache).invalidate(any());
+
+        engine.onBoardChanged(new BoardChangedEvent(BoardChangedEvent.ChangeType.CREATED, null, snapshot(1L, "스프링 스터디")));
+        engine.onBoardChanged(new BoardChangedEvent(BoardChangedEvent.ChangeType.DELETED, snapshot(1L, "스프링 스터디"), null));
+
+        assertThat(seenOnInvalidate).containsExactly(List.of(1L), List.of());
+    }
+
+    private BoardSnapshot snapshot(Long boardId, String title) {
+        return new BoardSnapshot(boardId, Category.자유, title, "내용", "백엔드", Tag.기타, 0, 0);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.copro.board.application.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.copro.board.domain.Tag;
+import org.junit.jupiter.api.Test;
+
+class BoardSearchIndexTest {
+    private final BoardSearchIndex index = new BoardSearchIndex();
+
+    @Test
+    void 제목에_일치하면_내용에만_일치하는_게시물보다_위에_온다() {
+        index.add(1L, "모집 공고", "스프링 백엔드 개발자를 찾습니다", "백엔드", Tag.포트폴리오);
+        index.add(2L, "스프링 스터디", "함께 공부해요", "백엔드", Tag.기타);
+
+        BoardSearchResult result = index.search("스프링", 0, 10);
+
+        assertThat(result.boardIds()).containsExactly(2L, 1L);
+        assertThat(result.total()).isEqualTo(2);
+    }
+
+    @Test
+    void 검색어의_bigram을_모두_포함해야_일치한다() {
+        index.add(1L, "스프 레시피", null, null, null);
+        index.add(2L, "스프링 부트", null, null, null);
+
+        assertThat(index.search("스프링", 0, 10).boardIds()).containsExactly(2L);
+        assertThat(index.search("스프링 레시피", 0, 10).boardIds()).isEmpty();
+    }
+
+    @Test
+    void 대소문자와_전각_문자를_구분하지_않는다() {
+        index.add(1L, "ＪＡＶＡ Spring", null, null, null);
+
+        assertThat(index.search("java", 0, 10).boardIds()).containsExactly(1L);
+        assertThat(index.search("SPRING", 0, 10).boardIds()).containsExactly(1L);
+    }
+
+    @Test
+    void 점수가_같으면_최신_게시물이_먼저_온다() {
+        index.add(1L, "리액트", null, null, null);
+        index.add(3L, "리액트", null, null, null);
+        index.add(2L, "리액트", null, null, null);
+
+        assertThat(index.search("리액트", 0, 10).boardIds()).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void 페이지_범위만_돌려주고_전체_개수는_유지한다() {
+        for (long boardId = 1; boardId <= 5; boardId++) {
+            index.add(boardId, "코틀린", null, null, null);
+        }
+
+        BoardSearchResult result = index.search("코틀린", 2, 2);
+
+        assertThat(result.boardIds()).containsExactly(3L, 2L);
+        assertThat(result.total()).isEqualTo(5);
+    }
+
+    @Test
+    void 삭제하거나_수정한_게시물은_이전_내용으로_검색되지_않는다() {
+        index.add(1L, "파이썬", null, null, null);
+        index.add(2L, "파이썬", null, null, null);
+
+        index.remove(1L);
+        index.add(2L, "장고", null, null, null);
+
+        assertThat(index.search("파이썬", 0, 10).boardIds()).isEmpty();
+        assertThat(index.search("장고", 0, 10).boardIds()).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void compact_후에도_같은_결과를_돌려준다() {
+        for (long boardId = 1; boardId <= 10; boardId++) {
+            index.add(boardId, boardId % 2 == 0 ? "자바 스터디" : "자바 프로젝트", null, null, null);
+        }
+        for (long boardId = 1; boardId <= 10; boardId += 3) {
+            index.remove(boardId);
+        }
+        BoardSearchResult before = index.search("자바", 0, 10);
+
+        index.compact();
+
+        // 정리 전에는 df에 삭제 문서가 포함되므로 순서는 달라질 수 있고 일치하는 게시물은 같아야 한다
+        BoardSearchResult after = index.search("자바", 0, 10);
+        assertThat(after.boardIds()).containsExactlyInAnyOrderElementsOf(before.boardIds());
+        assertThat(after.total()).isEqualTo(before.total());
+        assertThat(index.search("프로젝트", 0, 10).boardIds()).containsExactly(9L, 5L, 3L);
+        index.add(11L, "자바", null, null, null);
+        assertThat(index.search("자바", 0, 1).boardIds()).containsExactly(11L);
+    }
+
+    @Test
+    void 검색어가_비었거나_없는_gram이면_빈_결과() {
+        index.add(1L, "자바", null, null, null);
+
+        assertThat(index.search("  ", 0, 10)).isEqualTo(BoardSearchResult.empty());
+        assertThat(index.search("고랭", 0, 10)).isEqualTo(BoardSearchResult.empty());
+    }
+}
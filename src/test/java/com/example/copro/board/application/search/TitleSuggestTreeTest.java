@@ -0,0 +1,112 @@
+package com.example.copro.board.application.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.copro.global.util.Hangul;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class TitleSuggestTreeTest {
+    private final TitleSuggestTree tree = new TitleSuggestTree();
+
+    @Test
+    void 입력_중인_글자로_접두사가_같은_제목을_점수순으로_찾는다() {
+        tree.put(1L, "프로젝트 팀원 모집", 5);
+        tree.put(2L, "프론트엔드 개발자", 9);
+        tree.put(3L, "포트폴리오 스터디", 100);
+
+        assertThat(boardIds(tree.suggest("프롲", 10))).containsExactly(1L);
+        assertThat(boardIds(tree.suggest("프로", 10))).containsExactly(2L, 1L);
+        assertThat(boardIds(tree.suggest("ㅍ", 1))).containsExactly(3L);
+        assertThat(tree.suggest("자바", 10)).isEmpty();
+    }
+
+    @Test
+    void 개수가_0_이하면_빈_목록이다() {
+        tree.put(1L, "프로젝트 팀원 모집", 5);
+
+        assertThat(tree.suggest("프로", 0)).isEmpty();
+        assertThat(tree.suggest("프로", -1)).isEmpty();
+    }
+
+    @Test
+    void 점수가_같으면_최신_게시물이_먼저_온다() {
+        tree.put(1L, "스터디", 1);
+        tree.put(2L, "스터디", 1);
+
+        assertThat(boardIds(tree.suggest("스", 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 상위_목록에서_빠지면_남은_후보로_다시_채운다() {
+        for (long boardId = 1; boardId <= TitleSuggestTree.TOP_K + 2; boardId++) {
+            tree.put(boardId, "자바 스터디 " + boardId, boardId);
+        }
+
+        tree.remove(12L);
+        tree.remove(11L);
+
+        assertThat(boardIds(tree.suggest("자바", 10))).containsExactly(10L, 9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L);
+        assertThat(tree.size()).isEqualTo(10);
+    }
+
+    @Test
+    void 점수나_제목을_바꾸면_이전_값은_남지_않는다() {
+        tree.put(1L, "코틀린", 1);
+        tree.put(2L, "코틀린", 2);
+
+        tree.put(1L, "코틀린", 3);
+        tree.put(2L, "파이썬", 2);
+
+        assertThat(tree.suggest("코", 10)).extracting(TitleSuggestTree.Suggestion::score).containsExactly(3L);
+        assertThat(boardIds(tree.suggest("파이", 10))).containsExactly(2L);
+    }
+
+    @Test
+    void 추가와_삭제를_섞어도_전체를_훑은_결과와_같다() {
+        String[] words = {"스프링", "스프", "스터디", "리액트", "리눅스", "자바", "자바스크립트", "ㅈ"};
+        Map<Long, String> titles = new HashMap<>();
+        Map<Long, Long> scores = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int step = 0; step < 5_000; step++) {
+            long boardId = 1 + random.nextInt(300);
+            if (random.nextInt(3) == 0) {
+                tree.remove(boardId);
+                titles.remove(boardId);
+                scores.remove(boardId);
+            } else {
+                String title = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+                long score = random.nextInt(20);
+                tree.put(boardId, title, score);
+                titles.put(boardId, title);
+                scores.put(boardId, score);
+            }
+        }
+
+        for (String prefix : new String[]{"ㅅ", "스", "스프", "스ㅍ", "리", "자바", "자바 스", "ㅈ"}) {
+            String key = Hangul.decompose(prefix);
+            List<Long> expected = titles.keySet().stream()
+                    .filter(boardId -> Hangul.decompose(titles.get(boardId)).startsWith(key))
+                    .sorted(Comparator.comparing((Long boardId) -> scores.get(boardId))
+                            .thenComparing(boardId -> boardId)
+                            .reversed())
+                    .limit(TitleSuggestTree.TOP_K)
+                    .toList();
+
+            assertThat(boardIds(tree.suggest(prefix, TitleSuggestTree.TOP_K))).as(prefix).isEqualTo(expected);
+        }
+        assertThat(tree.size()).isEqualTo(titles.size());
+    }
+
+    private static List<Long> boardIds(List<TitleSuggestTree.Suggestion> suggestions) {
+        List<Long> boardIds = new ArrayList<>();
+        suggestions.forEach(suggestion -> boardIds.add(suggestion.boardId()));
+        return boardIds;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.copro.comment.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.copro.board.application.BoardETags;
+import com.example.copro.board.application.BoardSummaryService;
+import com.example.copro.board.config.JpaBoardConfig;
+import com.example.copro.board.domain.Board;
+import com.example.copro.board.domain.BoardSummary;
+import com.example.copro.board.domain.Category;
+import com.example.copro.board.domain.repository.BoardSummaryRepository;
+import com.example.copro.comment.api.dto.request.CommentSaveReqDto;
+import com.example.copro.comment.api.dto.request.CommentUpdateReqDto;
+import com.example.copro.comment.api.dto.response.CommentInsertResDto;
+import com.example.copro.global.config.QuerydslConfig;
+import com.example.copro.member.domain.Member;
+import com.example.copro.member.domain.Role;
+import com.example.copro.member.domain.SocialType;
+import com.example.copro.notification.application.FCMNotificationService;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+// 댓글 등록 응답의 댓글 수, 댓글 목록 버전이 board_summary에 저장된 값(목록 조회의 버전)과 같은지 확인한다
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, JpaBoardConfig.class, CommentService.class, BoardSummaryService.class})
+class CommentInsertTest {
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private BoardSummaryRepository boardSummaryRepository;
+    @Autowired
+    private BoardSummaryService boardSummaryService;
+
+    @MockBean
+    private FCMNotificationService fcmNotificationService;
+    @MockBean
+    private BoardETags boardETags;
+
+    private Member writer;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        writer = Member.builder()
+                .role(Role.ROLE_USER)
+                .email("writer@copro.com")
+                .name("회원")
+                .socialType(SocialType.GOOGLE)
+                .build();
+        entityManager.persist(writer);
+        board = Board.builder()
+                .title("제목")
+                .category(Category.자유)
+                .contents("내용")
+                .member(writer)
+                .images(new ArrayList<>())
+                .build();
+        entityManager.persist(board);
+        entityManager.persist(BoardSummary.of(board, 0));
+        entityManager.flush();
+    }
+
+    @Test
+    void 등록할_때마다_댓글_수와_버전이_하나씩_오른다() {
+        CommentInsertResDto first = insert(null, "댓글");
+        CommentInsertResDto reply = insert(first.comment().getCommentId(), "답글");
+
+        assertThat(first.commentCount()).isEqualTo(1);
+        assertThat(first.threadVersion()).isEqualTo(1);
+        assertThat(reply.commentCount()).isEqualTo(2);
+        assertThat(reply.threadVersion()).isEqualTo(2);
+        assertThat(reply.comment().getParentId()).isEqualTo(first.comment().getCommentId());
+    }
+
+    @Test
+    void 사이에_수정이_있으면_버전이_2_이상_오른다() {
+        CommentInsertResDto first = insert(null, "댓글");
+
+        commentService.update(first.comment().getCommentId(), new CommentUpdateReqDto("수정"), writer);
+        CommentInsertResDto second = insert(null, "다음 댓글");
+
+        assertThat(second.threadVersion() - first.threadVersion()).isEqualTo(2);
+        assertThat(boardSummaryRepository.findCommentStateByBoardId(board.getBoardId()))
+                .hasValueSatisfying(state -> assertThat(state.getCommentVersion()).isEqualTo(3));
+    }
+
+    @Test
+    void 목록_버전은_등록_응답의_버전과_같다() {
+        CommentInsertResDto inserted = insert(null, "댓글");
+
+        assertThat(commentService.threadVersion(board.getBoardId())).isEqualTo(inserted.threadVersion());
+    }
+
+    @Test
+    void 작성자_정보가_바뀌면_댓글을_단_게시물의_버전이_오른다() {
+        CommentInsertResDto inserted = insert(null, "댓글");
+
+        boardSummaryService.increaseCommentVersionByWriter(writer.getMemberId());
+        entityManager.clear();
+
+        assertThat(commentService.threadVersion(board.getBoardId())).isEqualTo(inserted.threadVersion() + 1);
+    }
+
+    private CommentInsertResDto insert(Long parentId, String content) {
+        return commentService.insertAndGetCreated(board.getBoardId(), new CommentSaveReqDto(parentId, content), writer);
+    }
+}
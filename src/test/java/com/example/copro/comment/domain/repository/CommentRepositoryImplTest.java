@@ -0,0 +1,207 @@
+package com.example.copro.comment.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.copro.board.config.JpaBoardConfig;
+import com.example.copro.board.domain.Board;
+import com.example.copro.board.domain.Category;
+import com.example.copro.comment.api.dto.response.CommentResDto;
+import com.example.copro.comment.domain.Comment;
+import com.example.copro.global.config.QuerydslConfig;
+import com.example.copro.member.domain.Member;
+import com.example.copro.member.domain.Role;
+import com.example.copro.member.domain.SocialType;
+import jakarta.persistence.EntityManager;
+import com.example.copro.comment.util.CommentCursor;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, JpaBoardConfig.class})
+class CommentRepositoryImplTest {
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Member writer;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        writer = Member.builder()
+                .role(Role.ROLE_USER)
+                .email("writer@copro.com")
+                .name("회원")
+                .socialType(SocialType.GOOGLE)
+                .build();
+        entityManager.persist(writer);
+        board = Board.builder()
+                .title("제목")
+                .category(Category.프로젝트)
+                .contents("내용")
+                .member(writer)
+                .build();
+        entityManager.persist(board);
+    }
+
+    @Test
+    void 답글은_최상위_댓글_id를_root_id로_가진다() {
+        Comment root = persist("댓글", null);
+        Comment reply = persist("답글", root);
+        Comment nested = persist("답글의 답글", reply);
+
+        assertThat(root.getRootId()).isNull();
+        assertThat(reply.getRootId()).isEqualTo(root.getCommentId());
+        assertThat(nested.getRootId()).isEqualTo(root.getCommentId());
+    }
+
+    @Test
+    void 페이지의_최상위_댓글_아래_답글만_읽어_트리를_만든다() {
+        Comment first = persist("첫 댓글", null);
+        Comment firstReply = persist("첫 댓글 답글", first);
+        persist("첫 댓글 답글의 답글", firstReply);
+        Comment second = persist("둘째 댓글", null);
+        // 다음 페이지 댓글의 답글이 첫 페이지 이후에 달려도 읽지 않는다
+        for (int i = 0; i < 5; i++) {
+            persist("둘째 댓글 답글" + i, second);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Page<CommentResDto> page = commentRepository.findByBoardBoardId(board.getBoardId(), PageRequest.of(0, 1));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        CommentResDto thread = page.getContent().get(0);
+        assertThat(thread.getContent()).isEqualTo("첫 댓글");
+        assertThat(thread.getChildren()).extracting(CommentResDto::getContent).containsExactly("첫 댓글 답글");
+        assertThat(thread.getChildren().get(0).getChildren()).extracting(CommentResDto::getContent)
+                .containsExactly("첫 댓글 답글의 답글");
+        // 최상위 댓글 1 + 첫 댓글 아래 답글 2 + 작성자 1, 둘째 댓글 답글은 읽지 않는다
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(4);
+    }
+
+    @Test
+    void 작성_시각이_같아도_id로_이어서_빠짐없이_읽는다() {
+        List<Long> parentIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            parentIds.add(persist("댓글" + i, null).getCommentId());
+        }
+        sameCreateAt();
+
+        List<Slice<CommentResDto>> pages = readAll(cursor ->
+                commentRepository.findParentsByCursor(board.getBoardId(), cursor, PageRequest.of(0, 2)));
+
+        assertThat(pages).extracting(Slice::hasNext).containsExactly(true, true, false);
+        assertThat(pages).flatExtracting(Slice::getContent).extracting(CommentResDto::getCommentId)
+                .containsExactlyElementsOf(parentIds);
+    }
+
+    @Test
+    void 답글도_작성_시각이_같으면_id_순으로_이어서_읽는다() {
+        Comment parent = persist("댓글", null);
+        List<Long> replyIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            replyIds.add(persist("답글" + i, parent).getCommentId());
+        }
+        persist("다른 댓글", null);
+        sameCreateAt();
+
+        List<Slice<CommentResDto>> pages = readAll(cursor ->
+                commentRepository.findRepliesByCursor(parent.getCommentId(), cursor, PageRequest.of(0, 2)));
+
+        assertThat(pages).extracting(Slice::hasNext).containsExactly(true, false);
+        assertThat(pages).flatExtracting(Slice::getContent).extracting(CommentResDto::getCommentId)
+                .containsExactlyElementsOf(replyIds);
+    }
+
+    @Test
+    void 남은_댓글이_페이지_크기와_같으면_다음_페이지가_없다() {
+        persist("댓글1", null);
+        persist("댓글2", null);
+        entityManager.flush();
+        entityManager.clear();
+        Pageable pageable = PageRequest.of(0, 2);
+
+        Slice<CommentResDto> exact = commentRepository.findParentsByCursor(board.getBoardId(), null, pageable);
+        persist("댓글3", null);
+        entityManager.flush();
+        entityManager.clear();
+        Slice<CommentResDto> oneMore = commentRepository.findParentsByCursor(board.getBoardId(), null, pageable);
+
+        assertThat(exact.getContent()).hasSize(2);
+        assertThat(exact.hasNext()).isFalse();
+        assertThat(oneMore.getContent()).hasSize(2);
+        assertThat(oneMore.hasNext()).isTrue();
+    }
+
+    @Test
+    void 커서_이후에_달린_댓글은_이미_읽은_페이지를_밀지_않는다() {
+        Comment first = persist("댓글1", null);
+        Comment second = persist("댓글2", null);
+        Comment third = persist("댓글3", null);
+        sameCreateAt();
+        Pageable pageable = PageRequest.of(0, 2);
+
+        Slice<CommentResDto> firstPage = commentRepository.findParentsByCursor(board.getBoardId(), null, pageable);
+        CommentCursor cursor = CommentCursor.of(firstPage.getContent().get(1));
+        Comment posted = persist("새 댓글", null);
+        entityManager.flush();
+        entityManager.clear();
+        Slice<CommentResDto> secondPage = commentRepository.findParentsByCursor(board.getBoardId(), cursor, pageable);
+
+        assertThat(firstPage.getContent()).extracting(CommentResDto::getCommentId)
+                .containsExactly(first.getCommentId(), second.getCommentId());
+        // 앞 페이지의 마지막 댓글이 다시 오지 않고, 새 댓글은 맨 뒤에 붙는다
+        assertThat(secondPage.getContent()).extracting(CommentResDto::getCommentId)
+                .containsExactly(third.getCommentId(), posted.getCommentId());
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    // 모든 댓글의 작성 시각을 같게 만들어 id로만 순서가 정해지게 한다
+    private void sameCreateAt() {
+        entityManager.flush();
+        entityManager.createQuery("update Comment c set c.createAt = :createAt where c.board = :board")
+                .setParameter("createAt", LocalDateTime.of(2024, 1, 1, 12, 0))
+                .setParameter("board", board)
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    private List<Slice<CommentResDto>> readAll(Function<CommentCursor, Slice<CommentResDto>> fetcher) {
+        List<Slice<CommentResDto>> pages = new ArrayList<>();
+        CommentCursor cursor = null;
+        Slice<CommentResDto> page;
+        do {
+            page = fetcher.apply(cursor);
+            pages.add(page);
+            if (page.hasContent()) {
+                cursor = CommentCursor.of(page.getContent().get(page.getContent().size() - 1));
+            }
+        } while (page.hasNext());
+        return pages;
+    }
+
+    private Comment persist(String content, Comment parent) {
+        Comment comment = new Comment(content, false, writer, board, parent);
+        entityManager.persist(comment);
+        return comment;
+    }
+}
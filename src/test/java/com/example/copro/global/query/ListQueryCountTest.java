@@ -0,0 +1,159 @@
+package com.example.copro.global.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.copro.board.application.BoardHydrator;
+import com.example.copro.board.config.JpaBoardConfig;
+import com.example.copro.board.domain.Board;
+import com.example.copro.board.domain.BoardCounter;
+import com.example.copro.board.domain.BoardSummary;
+import com.example.copro.board.domain.Category;
+import com.example.copro.board.domain.repository.BoardRepository;
+import com.example.copro.board.util.PageableUtil;
+import com.example.copro.comment.application.CommentHydrator;
+import com.example.copro.comment.domain.Comment;
+import com.example.copro.comment.domain.repository.CommentRepository;
+import com.example.copro.global.config.QuerydslConfig;
+import com.example.copro.image.domain.Image;
+import com.example.copro.member.domain.Member;
+import com.example.copro.member.domain.MemberScrapBoard;
+import com.example.copro.member.domain.Role;
+import com.example.copro.member.domain.SocialType;
+import com.example.copro.member.mypage.application.MyPageService;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+
+// 목록 API가 페이지 크기와 상관없이 같은 수의 SQL만 실행하는지 확인한다 (Hibernate Statistics 기준)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, JpaBoardConfig.class, BoardHydrator.class, CommentHydrator.class, MyPageService.class})
+class ListQueryCountTest {
+    private static final int BOARD_COUNT = 12;
+    private static final int SMALL_PAGE = 3;
+    private static final int LARGE_PAGE = BOARD_COUNT;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private MyPageService myPageService;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Member writer;
+    private Board commentedBoard;
+
+    @BeforeEach
+    void setUp() {
+        writer = persistMember();
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            // 스크랩한 게시물, 댓글 작성자를 모두 다른 회원으로 만들어 연관관계를 행마다 읽으면 쿼리 수가 늘어나게 한다
+            Member other = persistMember();
+            Board board = persistBoard(writer, i);
+            entityManager.persist(BoardSummary.of(board, 0));
+            entityManager.persist(new Comment("댓글" + i, false, writer, board, null));
+
+            Board scrapped = persistBoard(other, BOARD_COUNT + i);
+            entityManager.persist(MemberScrapBoard.of(scrapped, writer));
+
+            if (commentedBoard == null) {
+                commentedBoard = board;
+            }
+            Comment parent = new Comment("부모" + i, false, other, commentedBoard, null);
+            entityManager.persist(parent);
+            entityManager.persist(new Comment("답글" + i, false, persistMember(), commentedBoard, parent));
+        }
+        entityManager.persist(BoardCounter.of(BoardCounter.key(Category.프로젝트), BOARD_COUNT));
+        entityManager.flush();
+    }
+
+    @Test
+    void 내가_작성한_게시물_목록() {
+        assertConstantStatements(size -> myPageService.boardWriteList(writer, 0, size));
+    }
+
+    @Test
+    void 내가_스크랩한_게시물_목록() {
+        assertConstantStatements(size -> myPageService.boardLikeList(writer, 0, size));
+    }
+
+    @Test
+    void 내가_작성한_댓글_목록() {
+        assertConstantStatements(size -> myPageService.commentWriteList(writer, 0, size));
+    }
+
+    @Test
+    void 카테고리_게시물_목록() {
+        assertConstantStatements(size -> boardRepository.findAllWithCommentCount(Category.프로젝트,
+                PageableUtil.of(1, size, Sort.by(Sort.Direction.DESC, "createAt"))));
+    }
+
+    @Test
+    void 게시물_댓글_목록() {
+        assertConstantStatements(size -> commentRepository.findByBoardBoardId(commentedBoard.getBoardId(),
+                PageableUtil.of(1, size)));
+    }
+
+    private void assertConstantStatements(IntConsumer endpoint) {
+        long small = countStatements(() -> endpoint.accept(SMALL_PAGE));
+        long large = countStatements(() -> endpoint.accept(LARGE_PAGE));
+
+        assertThat(small).isPositive();
+        assertThat(large).isEqualTo(small);
+    }
+
+    private long countStatements(Runnable endpoint) {
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        endpoint.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Member persistMember() {
+        Member member = Member.builder()
+                .role(Role.ROLE_USER)
+                .email("member" + System.nanoTime() + "@copro.com")
+                .name("회원")
+                .socialType(SocialType.GOOGLE)
+                .build();
+        entityManager.persist(member);
+        return member;
+    }
+
+    private Board persistBoard(Member member, int index) {
+        List<Image> images = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Image image = Image.builder()
+                    .imageUrl("https://image/" + index + "/" + i)
+                    .convertImageName(index + "_" + i + ".png")
+                    .build();
+            entityManager.persist(image);
+            images.add(image);
+        }
+
+        Board board = Board.builder()
+                .title("제목" + index)
+                .category(Category.프로젝트)
+                .contents("내용" + index)
+                .member(member)
+                .images(images)
+                .build();
+        entityManager.persist(board);
+        return board;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.copro.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DecayedTopKTest {
+    private static final long HALF_LIFE = 60_000;
+
+    @Test
+    void 점수_높은_순으로_돌려준다() {
+        DecayedTopK topK = new DecayedTopK(10, HALF_LIFE, 0);
+        topK.add(1, 1, 0);
+        topK.add(2, 3, 0);
+        topK.add(3, 2, 0);
+
+        assertThat(ids(topK.top(10, 0))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(topK.top(2, 0))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void 반감기마다_점수가_절반이_된다() {
+        DecayedTopK topK = new DecayedTopK(10, HALF_LIFE, 0);
+        topK.add(1, 8, 0);
+
+        assertThat(topK.top(1, HALF_LIFE).get(0).score()).isCloseTo(4, within(1e-9));
+        assertThat(topK.top(1, 3 * HALF_LIFE).get(0).score()).isCloseTo(1, within(1e-9));
+    }
+
+    @Test
+    void 최근_활동이_오래된_활동보다_크게_반영된다() {
+        DecayedTopK topK = new DecayedTopK(10, HALF_LIFE, 0);
+        topK.add(1, 3, 0);
+        topK.add(2, 2, 2 * HALF_LIFE);
+
+        // 1번은 3 -> 0.75로 줄었다
+        assertThat(ids(topK.top(10, 2 * HALF_LIFE))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 꽉_차면_가장_낮은_항목을_내보내고_점수를_이어받는다() {
+        DecayedTopK topK = new DecayedTopK(2, HALF_LIFE, 0);
+        topK.add(1, 5, 0);
+        topK.add(2, 1, 0);
+
+        Long evicted = topK.add(3, 1, 0);
+
+        assertThat(evicted).isEqualTo(2L);
+        assertThat(topK.contains(2)).isFalse();
+        assertThat(topK.top(10, 0)).extracting(DecayedTopK.Scored::score).containsExactly(5.0, 2.0);
+    }
+
+    @Test
+    void 음수_가중치는_들고_있는_항목만_줄이고_0_아래로_내려가지_않는다() {
+        DecayedTopK topK = new DecayedTopK(10, HALF_LIFE, 0);
+        topK.add(1, 1, 0);
+
+        assertThat(topK.add(2, -1, 0)).isNull();
+        topK.add(1, -5, 0);
+
+        assertThat(topK.contains(2)).isFalse();
+        assertThat(topK.top(10, 0)).extracting(DecayedTopK.Scored::score).containsExactly(0.0);
+    }
+
+    @Test
+    void 기준_시각을_옮겨도_점수와_순서가_유지된다() {
+        DecayedTopK topK = new DecayedTopK(10, HALF_LIFE, 0);
+        topK.add(1, 1, 0);
+        topK.add(2, 2, 0);
+
+        // e^50을 넘는 시점(반감기 약 72번)에 더하면 기준 시각을 옮긴다
+        long later = 80 * HALF_LIFE;
+        topK.add(3, 1, later);
+
+        List<DecayedTopK.Scored> top = topK.top(10, later);
+        assertThat(ids(top)).containsExactly(3L, 2L, 1L);
+        assertThat(top.get(0).score()).isCloseTo(1, within(1e-9));
+    }
+
+    @Test
+    void 지우거나_개수가_0_이하이면_빠진다() {
+        DecayedTopK topK = new DecayedTopK(10, HALF_LIFE, 0);
+        topK.add(1, 1, 0);
+        topK.add(2, 1, 0);
+
+        topK.remove(1);
+
+        assertThat(ids(topK.top(10, 0))).containsExactly(2L);
+        assertThat(topK.size()).isEqualTo(1);
+        assertThat(topK.top(0, 0)).isEmpty();
+        assertThat(topK.top(-1, 0)).isEmpty();
+    }
+
+    private static List<Long> ids(List<DecayedTopK.Scored> scored) {
+        return scored.stream().map(DecayedTopK.Scored::id).toList();
+    }
+}
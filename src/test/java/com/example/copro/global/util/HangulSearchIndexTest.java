@@ -0,0 +1,88 @@
+package com.example.copro.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HangulSearchIndexTest {
+    private final HangulSearchIndex index = new HangulSearchIndex();
+
+    @Test
+    void 초성으로_검색한다() {
+        index.put(1L, "프로젝트 팀원 모집");
+        index.put(2L, "포트폴리오 스터디");
+        index.put(3L, "사이드 프로젝트");
+
+        assertThat(index.search("ㅍㄹㅈㅌ", 0, 10).ids()).containsExactly(3L, 1L);
+        assertThat(index.search("ㅍ", 0, 10).ids()).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void 입력_중인_글자로_검색한다() {
+        index.put(1L, "프로젝트 팀원 모집");
+        index.put(2L, "프론트엔드 개발자");
+
+        assertThat(index.search("프로ㅈ", 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("프롲", 0, 10).ids()).containsExactly(1L);
+        // "프로"는 "프론"을 입력하는 중일 수도 있다
+        assertThat(index.search("프로", 0, 10).ids()).containsExactly(2L, 1L);
+        assertThat(index.search("프", 0, 10).ids()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 연속으로_포함된_경우만_일치한다() {
+        // gram은 모두 있지만 이어져 있지 않은 경우
+        index.put(1L, "스터디 프로젝트 스프링");
+
+        assertThat(index.search("스프링", 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("스프로", 0, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void 최신순으로_페이지를_나누고_전체_개수를_돌려준다() {
+        for (long id = 1; id <= 5; id++) {
+            index.put(id, "자바 스터디 " + id);
+        }
+
+        HangulSearchIndex.Result result = index.search("ㅈㅂ", 1, 2);
+
+        assertThat(result.ids()).containsExactly(4L, 3L);
+        assertThat(result.total()).isEqualTo(5);
+    }
+
+    @Test
+    void 수정하거나_삭제한_항목은_이전_문자열로_검색되지_않는다() {
+        index.put(1L, "파이썬");
+        index.put(2L, "코틀린");
+
+        index.put(1L, "장고");
+        index.remove(2L);
+
+        assertThat(index.search("ㅍㅇㅆ", 0, 10).ids()).isEmpty();
+        assertThat(index.search("ㅋㅌㄹ", 0, 10).ids()).isEmpty();
+        assertThat(index.search("ㅈㄱ", 0, 10).ids()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 삭제가_쌓여_정리된_뒤에도_결과가_같다() {
+        for (long id = 1; id <= 3_000; id++) {
+            index.put(id, id % 2 == 0 ? "리액트 " + id : "스프링 " + id);
+        }
+        for (long id = 1; id <= 3_000; id += 2) {
+            index.remove(id);
+        }
+
+        assertThat(index.search("ㅅㅍㄹ", 0, 10).total()).isZero();
+        assertThat(index.search("리액ㅌ", 0, 1).ids()).containsExactly(3_000L);
+        assertThat(index.search("리액트", 0, 10).total()).isEqualTo(1_500);
+        assertThat(index.size()).isEqualTo(1_500);
+    }
+
+    @Test
+    void 빈_검색어는_빈_결과() {
+        index.put(1L, "자바");
+
+        assertThat(index.search(" !", 0, 10).ids()).isEmpty();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.copro.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HangulTest {
+
+    @Test
+    void 음절을_홑자모로_분해한다() {
+        assertThat(Hangul.decompose("프로젝트")).isEqualTo("ㅍㅡㄹㅗㅈㅔㄱㅌㅡ");
+        assertThat(Hangul.decompose("과값")).isEqualTo("ㄱㅗㅏㄱㅏㅂㅅ");
+    }
+
+    @Test
+    void 입력_중인_겹자모도_홑자모로_분해한다() {
+        assertThat(Hangul.decompose("ㅘㄳ")).isEqualTo("ㅗㅏㄱㅅ");
+    }
+
+    @Test
+    void 공백과_기호는_버리고_영문은_소문자로_맞춘다() {
+        assertThat(Hangul.decompose("Java 스터디!")).isEqualTo("javaㅅㅡㅌㅓㄷㅣ");
+        assertThat(Hangul.choseong("프로젝트 팀원 3명")).isEqualTo("ㅍㄹㅈㅌㅌㅇ3ㅁ");
+    }
+
+    @Test
+    void 자음만_있는_검색어만_초성_검색어다() {
+        assertThat(Hangul.isChoseongQuery("ㅍㄹㅈㅌ")).isTrue();
+        assertThat(Hangul.isChoseongQuery("ㅂㅇㄷ 3")).isTrue();
+        assertThat(Hangul.isChoseongQuery("프로ㅈ")).isFalse();
+        assertThat(Hangul.isChoseongQuery("ㅍㅡ")).isFalse();
+        assertThat(Hangul.isChoseongQuery("java")).isFalse();
+    }
+
+    @Test
+    void 낱자모가_섞였는지_확인한다() {
+        assertThat(Hangul.containsJamo("프로ㅈ")).isTrue();
+        assertThat(Hangul.containsJamo("프로젝트")).isFalse();
+        assertThat(Hangul.containsJamo(null)).isFalse();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.copro.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+    @Test
+    void 비어_있으면_0() {
+        assertThat(new HyperLogLog().estimate()).isZero();
+    }
+
+    @Test
+    void 적은_수는_거의_정확하게_센다() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long value = 1; value <= 1_000; value++) {
+            sketch.offer(value);
+        }
+
+        assertThat(sketch.estimate()).isCloseTo(1_000L, within(30L));
+    }
+
+    @Test
+    void 많은_수는_표준_오차_안에서_추정한다() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long value = 1; value <= 1_000_000; value++) {
+            sketch.offer(value);
+        }
+
+        // 표준 오차 약 2.3%, 3배인 7% 안
+        assertThat(sketch.estimate()).isCloseTo(1_000_000L, within(70_000L));
+    }
+
+    @Test
+    void 같은_값은_한_번만_센다() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int repeat = 0; repeat < 100; repeat++) {
+            for (long value = 1; value <= 100; value++) {
+                sketch.offer(value);
+            }
+        }
+
+        assertThat(sketch.estimate()).isCloseTo(100L, within(5L));
+    }
+
+    @Test
+    void 합치면_합집합의_개수를_추정한다() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (long value = 0; value < 60_000; value++) {
+            first.offer(value);
+            second.offer(value + 40_000);
+        }
+
+        first.merge(second);
+
+        assertThat(first.estimate()).isCloseTo(100_000L, within(7_000L));
+    }
+
+    @Test
+    void 저장한_레지스터로_복원한다() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long value = 1; value <= 5_000; value++) {
+            sketch.offer(value);
+        }
+
+        HyperLogLog restored = HyperLogLog.of(sketch.toByteArray());
+
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+        assertThat(HyperLogLog.of(new byte[3]).estimate()).isZero();
+        assertThat(HyperLogLog.of(null).estimate()).isZero();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.copro.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LongObjectMapTest {
+
+    @Test
+    void 넣은_값을_돌려주고_없는_키는_null() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+
+        assertThat(map.put(1, "a")).isNull();
+        assertThat(map.put(1, "b")).isEqualTo("a");
+
+        assertThat(map.get(1)).isEqualTo("b");
+        assertThat(map.get(2)).isNull();
+        assertThat(map.containsKey(1)).isTrue();
+        assertThat(map.containsKey(2)).isFalse();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 음수와_0_키도_구분한다() {
+        LongObjectMap<String> map = new LongObjectMap<>(1);
+        map.put(0, "zero");
+        map.put(-1, "minus");
+        map.put(Long.MIN_VALUE, "min");
+
+        assertThat(map.get(0)).isEqualTo("zero");
+        assertThat(map.get(-1)).isEqualTo("minus");
+        assertThat(map.get(Long.MIN_VALUE)).isEqualTo("min");
+        assertThat(map.get(Long.MAX_VALUE)).isNull();
+    }
+
+    @Test
+    void computeIfAbsent는_없을_때만_만든다() {
+        LongObjectMap<StringBuilder> map = new LongObjectMap<>();
+
+        map.computeIfAbsent(7, key -> new StringBuilder()).append("a");
+        map.computeIfAbsent(7, key -> new StringBuilder("새 값")).append("b");
+
+        assertThat(map.get(7)).hasToString("ab");
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 크기를_넘게_넣어도_HashMap과_같다() {
+        Random random = new Random(42);
+        LongObjectMap<Long> map = new LongObjectMap<>(4);
+        Map<Long, Long> expected = new HashMap<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            // 하위 비트가 같은 키도 섞어 충돌과 재배치를 만든다
+            long key = random.nextBoolean() ? random.nextInt(50_000) : (long) random.nextInt(1_000) << 32;
+            long value = random.nextLong();
+            assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+        for (long key = 50_000; key < 60_000; key++) {
+            assertThat(map.containsKey(key)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.copro.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class RoaringBitmapTest {
+
+    @Test
+    void 추가한_값만_포함한다() {
+        RoaringBitmap bitmap = RoaringBitmap.of(new long[]{1, 65_536, 1L << 40});
+
+        assertThat(bitmap.contains(1)).isTrue();
+        assertThat(bitmap.contains(65_536)).isTrue();
+        assertThat(bitmap.contains(1L << 40)).isTrue();
+        assertThat(bitmap.contains(0)).isFalse();
+        assertThat(bitmap.contains(65_537)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(3);
+    }
+
+    @Test
+    void 이미_있는_값을_추가하거나_없는_값을_지우면_false() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+
+        assertThat(bitmap.add(7)).isTrue();
+        assertThat(bitmap.add(7)).isFalse();
+        assertThat(bitmap.remove(8)).isFalse();
+        assertThat(bitmap.remove(7)).isTrue();
+        assertThat(bitmap.contains(7)).isFalse();
+        assertThat(bitmap.cardinality()).isZero();
+    }
+
+    @Test
+    void 배열과_비트맵_묶음을_오가도_값이_유지된다() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        // 한 묶음에 4096개를 넘겨 비트맵으로 바꾼다
+        for (long value = 0; value < 10_000; value++) {
+            bitmap.add(value * 3);
+        }
+        assertThat(bitmap.cardinality()).isEqualTo(10_000);
+
+        // 다시 4096개 아래로 줄여 배열로 되돌린다
+        for (long value = 0; value < 10_000; value++) {
+            if (value % 4 != 0) {
+                bitmap.remove(value * 3);
+            }
+        }
+
+        assertThat(bitmap.cardinality()).isEqualTo(2_500);
+        for (long value = 0; value < 10_000; value++) {
+            assertThat(bitmap.contains(value * 3)).isEqualTo(value % 4 == 0);
+        }
+    }
+
+    @Test
+    void 무작위로_추가_삭제해도_HashSet과_같다() {
+        Random random = new Random(42);
+        RoaringBitmap bitmap = new RoaringBitmap();
+        Set<Long> expected = new HashSet<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            // 묶음 네 개에 몰아서 배열/비트맵 전환이 여러 번 일어나게 한다
+            long value = random.nextInt(4) * 65_536L + random.nextInt(8_192);
+            if (random.nextInt(3) == 0) {
+                assertThat(bitmap.remove(value)).isEqualTo(expected.remove(value));
+            } else {
+                assertThat(bitmap.add(value)).isEqualTo(expected.add(value));
+            }
+        }
+
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+        for (long key = 0; key < 4; key++) {
+            for (int low = 0; low < 8_192; low++) {
+                long value = key * 65_536 + low;
+                assertThat(bitmap.contains(value)).isEqualTo(expected.contains(value));
+            }
+        }
+    }
+}
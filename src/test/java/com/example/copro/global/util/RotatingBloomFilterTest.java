@@ -0,0 +1,61 @@
+package com.example.copro.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class RotatingBloomFilterTest {
+
+    @Test
+    void 처음_본_값만_true() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(1_000, 0.01, 4, Duration.ofHours(1));
+
+        assertThat(filter.putIfAbsent(42L)).isTrue();
+        assertThat(filter.putIfAbsent(42L)).isFalse();
+        assertThat(filter.putIfAbsent(43L)).isTrue();
+    }
+
+    @Test
+    void 본_값을_처음_본_값으로_판단하지_않는다() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(10_000, 0.01, 4, Duration.ofHours(1));
+        for (long key = 0; key < 10_000; key++) {
+            filter.putIfAbsent(key);
+        }
+
+        for (long key = 0; key < 10_000; key++) {
+            assertThat(filter.putIfAbsent(key)).isFalse();
+        }
+    }
+
+    @Test
+    void 오탐은_설정한_확률_수준이다() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(10_000, 0.01, 1, Duration.ofHours(1));
+        for (long key = 0; key < 10_000; key++) {
+            filter.putIfAbsent(key);
+        }
+
+        int falsePositives = 0;
+        // 확인하는 값도 기록되어 filter가 차므로 예상 개수를 크게 넘지 않는 범위(1,000개)만 본다
+        for (long key = 1_000_000; key < 1_001_000; key++) {
+            if (!filter.putIfAbsent(key)) {
+                falsePositives++;
+            }
+        }
+
+        // 설정값 1%, 여유를 두고 3% 미만
+        assertThat(falsePositives).isLessThan(30);
+    }
+
+    @Test
+    void window가_지나면_다시_처음_본_값이다() throws InterruptedException {
+        RotatingBloomFilter filter = new RotatingBloomFilter(1_000, 0.01, 2, Duration.ofMillis(200));
+        filter.putIfAbsent(7L);
+
+        Thread.sleep(100);
+        assertThat(filter.putIfAbsent(7L)).isFalse();
+
+        Thread.sleep(300);
+        assertThat(filter.putIfAbsent(7L)).isTrue();
+    }
+}